@@ -2,11 +2,16 @@ plugins {
     java
     id("org.springframework.boot") version "3.0.6"
     id("io.spring.dependency-management") version "1.1.0"
+    id("me.champeau.jmh") version "0.7.1"
 }
 
 group = "faang.school"
 version = "1.0"
-java.sourceCompatibility = JavaVersion.VERSION_17
+java {
+    toolchain {
+        languageVersion.set(JavaLanguageVersion.of(21))
+    }
+}
 
 repositories {
     mavenCentral()
@@ -21,7 +26,16 @@ dependencies {
     implementation("org.springframework.boot:spring-boot-starter-data-redis")
     implementation("org.springframework.boot:spring-boot-starter-web")
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+    implementation("org.springframework.boot:spring-boot-starter-aop")
+    implementation("io.micrometer:micrometer-registry-prometheus")
+    implementation("io.micrometer:micrometer-tracing-bridge-brave")
     implementation("org.springframework.cloud:spring-cloud-starter-openfeign:4.0.2")
+    implementation("io.github.openfeign:feign-hc5:12.1")
+    implementation("io.github.openfeign:feign-micrometer:12.1")
+    implementation("io.github.resilience4j:resilience4j-circuitbreaker:2.0.2")
+    implementation("io.github.resilience4j:resilience4j-bulkhead:2.0.2")
+    implementation("io.github.resilience4j:resilience4j-micrometer:2.0.2")
     annotationProcessor("org.springframework.boot:spring-boot-configuration-processor")
 
     /**
@@ -29,16 +43,21 @@ dependencies {
      */
     implementation("org.liquibase:liquibase-core")
     implementation("redis.clients:jedis:4.3.2")
-    runtimeOnly("org.postgresql:postgresql")
+    implementation(platform("software.amazon.awssdk:bom:2.20.68"))
+    implementation("software.amazon.awssdk:s3")
+    implementation("org.postgresql:postgresql")
 
     /**
      * Utils & Logging
      */
     implementation("com.fasterxml.jackson.core:jackson-databind:2.14.2")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-cbor:2.14.2")
+    implementation("com.fasterxml.jackson.dataformat:jackson-dataformat-smile:2.14.2")
     implementation("org.slf4j:slf4j-api:2.0.5")
     implementation("ch.qos.logback:logback-classic:1.4.6")
-    implementation("org.projectlombok:lombok:1.18.26")
-    annotationProcessor("org.projectlombok:lombok:1.18.26")
+    implementation("org.projectlombok:lombok:1.18.30")
+    annotationProcessor("org.projectlombok:lombok:1.18.30")
+    implementation("com.github.ben-manes.caffeine:caffeine")
     implementation("org.mapstruct:mapstruct:1.5.3.Final")
     annotationProcessor("org.mapstruct:mapstruct-processor:1.5.3.Final")
 
@@ -56,6 +75,12 @@ dependencies {
     testImplementation("org.junit.jupiter:junit-jupiter-params:5.9.2")
     testImplementation("org.assertj:assertj-core:3.24.2")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+
+    /**
+     * Benchmarks
+     */
+    jmhImplementation("org.testcontainers:postgresql")
+    jmhImplementation("com.redis.testcontainers:testcontainers-redis-junit-jupiter:1.4.6")
 }
 
 tasks.test {
@@ -68,6 +93,18 @@ tasks.withType<Test> {
 
 val test by tasks.getting(Test::class) { testLogging.showStandardStreams = true }
 
+jmh {
+    jmhVersion.set("1.36")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    includes.addAll(providers.gradleProperty("jmhIncludes").map { listOf(it) }.orElse(emptyList()))
+    resultFormat.set("JSON")
+    resultsFile.set(providers.gradleProperty("jmhResults")
+        .map { layout.projectDirectory.file(it) }
+        .orElse(layout.buildDirectory.file("reports/jmh/results.json")))
+}
+
 tasks.bootJar {
     archiveFileName.set("service.jar")
 }
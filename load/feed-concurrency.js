@@ -0,0 +1,51 @@
+// Compares the platform-thread and virtual-thread request models under I/O-bound load.
+// Run once per mode against the same data set, e.g.
+//   CONCURRENCY_VIRTUALTHREADS_ENABLED=false java -jar build/libs/service.jar
+//   k6 run -e MODE=platform --summary-export=build/k6-platform.json load/feed-concurrency.js
+//   CONCURRENCY_VIRTUALTHREADS_ENABLED=true java -jar build/libs/service.jar
+//   k6 run -e MODE=virtual --summary-export=build/k6-virtual.json load/feed-concurrency.js
+// and compare http_req_duration p(99) plus the highest arrival rate reached before dropped_iterations grows.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const USERS = parseInt(__ENV.USERS || '10000');
+const AUTHORS = parseInt(__ENV.AUTHORS || '1000');
+const PEAK_RATE = parseInt(__ENV.PEAK_RATE || '5000');
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    scenarios: {
+        ramp: {
+            executor: 'ramping-arrival-rate',
+            startRate: 100,
+            timeUnit: '1s',
+            preAllocatedVUs: 2000,
+            maxVUs: 10000,
+            stages: [
+                { target: PEAK_RATE / 4, duration: '1m' },
+                { target: PEAK_RATE / 2, duration: '1m' },
+                { target: PEAK_RATE, duration: '2m' },
+                { target: PEAK_RATE, duration: '1m' },
+            ],
+        },
+    },
+    thresholds: {
+        'http_req_duration{endpoint:feed}': ['p(99)<1000'],
+        'http_req_duration{endpoint:author}': ['p(99)<1000'],
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { mode: __ENV.MODE || 'platform' },
+};
+
+function headers() {
+    return { headers: { 'x-user-id': String(1 + Math.floor(Math.random() * USERS)) } };
+}
+
+export default function () {
+    const response = Math.random() < 0.7
+        ? http.get(`${BASE_URL}/feed?size=20`, Object.assign(headers(), { tags: { endpoint: 'feed' } }))
+        : http.get(`${BASE_URL}/posts/authors/${1 + Math.floor(Math.random() * AUTHORS)}?size=20`,
+            Object.assign(headers(), { tags: { endpoint: 'author' } }));
+    check(response, { 'status is 200': r => r.status === 200 });
+}
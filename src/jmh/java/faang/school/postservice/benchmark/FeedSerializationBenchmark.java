@@ -0,0 +1,123 @@
+package faang.school.postservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.cfg.MapperBuilder;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.user.UserDto;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost of a feed page per wire format; {@link #serialize} also reports the raw and gzipped payload
+ * sizes as the {@code bytes} and {@code gzippedBytes} secondary results.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FeedSerializationBenchmark {
+
+    private static final TypeReference<CursorPage<PostDto>> PAGE_TYPE = new TypeReference<>() {
+    };
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private CursorPage<PostDto> page;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        MapperBuilder<?, ?> builder = switch (format) {
+            case "smile" -> SmileMapper.builder();
+            case "cbor" -> CBORMapper.builder();
+            default -> JsonMapper.builder();
+        };
+        objectMapper = builder
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        LocalDateTime now = LocalDateTime.now();
+        List<PostDto> posts = LongStream.range(0, pageSize)
+                .mapToObj(id -> PostDto.builder()
+                        .id(id)
+                        .content("post content ".repeat(40))
+                        .authorId(id % 10)
+                        .published(true)
+                        .publishedAt(now.minusMinutes(id))
+                        .createdAt(now.minusMinutes(id))
+                        .updatedAt(now.minusMinutes(id))
+                        .author(new UserDto(id % 10, "user" + id % 10, "user" + id % 10 + "@example.com"))
+                        .build())
+                .toList();
+        page = new CursorPage<>(posts, Cursor.of(now, pageSize).encode());
+        payload = objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize size) throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public CursorPage<PostDto> deserialize() throws IOException {
+        return objectMapper.readValue(payload, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public byte[] serializeGzipped() throws IOException {
+        return gzip(objectMapper.writeValueAsBytes(page));
+    }
+
+    private static byte[] gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Payload sizes of the page, set once per iteration so the event counters report them unchanged.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+
+        public long bytes;
+        public long gzippedBytes;
+
+        @Setup(Level.Iteration)
+        public void record(FeedSerializationBenchmark benchmark) throws IOException {
+            bytes = benchmark.payload.length;
+            gzippedBytes = gzip(benchmark.payload).length;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package faang.school.postservice.benchmark;
+
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.post.PostView;
+import faang.school.postservice.mapper.PostMapper;
+import faang.school.postservice.model.Post;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PostMappingBenchmark {
+
+    private final PostMapper postMapper = Mappers.getMapper(PostMapper.class);
+
+    private Post post;
+    private PostView view;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        post = Post.builder()
+                .id(1L)
+                .content("x".repeat(512))
+                .authorId(1L)
+                .projectId(1L)
+                .published(true)
+                .publishedAt(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        view = new PostView(post.getId(), post.getContent(), post.getAuthorId(), post.getProjectId(), true,
+                now, null, now, now);
+    }
+
+    @Benchmark
+    public PostDto mapEntity() {
+        return postMapper.toDto(post);
+    }
+
+    @Benchmark
+    public PostDto mapView() {
+        return postMapper.toDto(view);
+    }
+}
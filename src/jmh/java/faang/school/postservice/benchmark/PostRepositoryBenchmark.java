@@ -0,0 +1,124 @@
+package faang.school.postservice.benchmark;
+
+import com.redis.testcontainers.RedisContainer;
+import faang.school.postservice.PostServiceApp;
+import faang.school.postservice.dto.post.PostView;
+import faang.school.postservice.repository.PostRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PostRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 50;
+
+    private static final String SEED_POSTS = """
+            INSERT INTO post (content, author_id, project_id, published, published_at, created_at, updated_at)
+            SELECT repeat('post content ', 40), g % ?, g % 100, true,
+                   now() - g * interval '1 second', now() - g * interval '1 second', now() - g * interval '1 second'
+            FROM generate_series(1, ?) g
+            """;
+
+    @Param({"100000", "1000000"})
+    private int posts;
+
+    @Param({"1000"})
+    private int authors;
+
+    private PostgreSQLContainer<?> postgres;
+    private RedisContainer redis;
+    private ConfigurableApplicationContext context;
+    private PostRepository postRepository;
+    private Pageable firstPage;
+    private long maxId;
+    private List<PostView> deepCursors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        postgres = new PostgreSQLContainer<>("postgres:13.6");
+        redis = new RedisContainer(DockerImageName.parse("redis/redis-stack:latest"));
+        postgres.start();
+        redis.start();
+
+        context = new SpringApplicationBuilder(PostServiceApp.class)
+                .bannerMode(Banner.Mode.OFF)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.data.redis.host=" + redis.getHost(),
+                        "spring.data.redis.port=" + redis.getMappedPort(6379),
+                        "logging.level.root=WARN")
+                .run();
+        postRepository = context.getBean(PostRepository.class);
+
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        jdbcTemplate.update(SEED_POSTS, authors, posts);
+        jdbcTemplate.execute("ANALYZE post");
+        maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM post", Long.class);
+        firstPage = PageRequest.of(0, PAGE_SIZE + 1);
+        deepCursors = LongStream.range(0, Math.min(authors, 100))
+                .mapToObj(author -> postRepository.findPageByAuthorId(author, true, PageRequest.of(DEEP_PAGE, PAGE_SIZE)))
+                .filter(page -> !page.isEmpty())
+                .map(page -> page.get(page.size() - 1))
+                .toList();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        redis.stop();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<PostView> firstAuthorPage() {
+        return postRepository.findPageByAuthorId(randomAuthor(), true, firstPage);
+    }
+
+    @Benchmark
+    public List<PostView> deepAuthorPage() {
+        PostView cursor = deepCursors.get(ThreadLocalRandom.current().nextInt(deepCursors.size()));
+        return postRepository.findPageByAuthorIdBefore(cursor.authorId(), true, cursor.createdAt(), cursor.id(), firstPage);
+    }
+
+    @Benchmark
+    public List<PostView> feedPageByIds() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Long> ids = LongStream.generate(() -> random.nextLong(1, maxId + 1))
+                .limit(PAGE_SIZE)
+                .boxed()
+                .toList();
+        return postRepository.findPublishedViewsByIds(ids);
+    }
+
+    private long randomAuthor() {
+        return ThreadLocalRandom.current().nextLong(authors);
+    }
+}
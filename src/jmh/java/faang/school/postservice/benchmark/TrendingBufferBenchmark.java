@@ -0,0 +1,110 @@
+package faang.school.postservice.benchmark;
+
+import com.redis.testcontainers.RedisContainer;
+import faang.school.postservice.service.trending.TrendingBuffer;
+import faang.school.postservice.service.trending.TrendingStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Score updates per second into the in-memory buffer, single-threaded and across all cores, and the cost of
+ * flushing a buffer of {@code posts} distinct posts to a real Redis. The record benchmarks never reach the store
+ * because the pending limit exceeds the key space, so they isolate the per-event hot path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TrendingBufferBenchmark {
+
+    private static final int MAX_SIZE = 10_000;
+
+    @Param({"1000", "100000"})
+    private int posts;
+
+    private RedisContainer redis;
+    private LettuceConnectionFactory connectionFactory;
+    private TrendingStore store;
+    private TrendingBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        redis = new RedisContainer(DockerImageName.parse("redis/redis-stack:latest"));
+        redis.start();
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+        store = new TrendingStore(redisTemplate, MAX_SIZE);
+        buffer = new TrendingBuffer(store, new SimpleMeterRegistry(), Integer.MAX_VALUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        connectionFactory.destroy();
+        redis.stop();
+    }
+
+    @Benchmark
+    public void record() {
+        recordRandom();
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public void recordAllCores() {
+        recordRandom();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public void flush(FlushState state) {
+        state.buffer.flush();
+    }
+
+    private void recordRandom() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long postId = random.nextInt(posts);
+        buffer.record(postId, postId % 50, 3, System.currentTimeMillis());
+    }
+
+    /**
+     * A buffer refilled with one event per post before every flush, outside the measured time.
+     */
+    @State(Scope.Thread)
+    public static class FlushState {
+
+        private TrendingBuffer buffer;
+        private int posts;
+
+        @Setup(Level.Trial)
+        public void setUp(TrendingBufferBenchmark benchmark) {
+            buffer = new TrendingBuffer(benchmark.store, new SimpleMeterRegistry(), Integer.MAX_VALUE);
+            posts = benchmark.posts;
+        }
+
+        @Setup(Level.Invocation)
+        public void fill() {
+            for (long postId = 0; postId < posts; postId++) {
+                buffer.record(postId, postId % 50, 3, System.currentTimeMillis());
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package faang.school.postservice.benchmark;
+
+import faang.school.postservice.config.context.UserContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserContextBenchmark {
+
+    private final UserContext userContext = new UserContext();
+    private final AtomicLong userIds = new AtomicLong();
+
+    @State(Scope.Thread)
+    public static class RequestThread {
+        private long userId;
+
+        @Setup
+        public void setUp(UserContextBenchmark benchmark) {
+            userId = benchmark.userIds.incrementAndGet();
+            benchmark.userContext.setUserId(userId);
+        }
+    }
+
+    @Benchmark
+    public long read(RequestThread thread) {
+        return userContext.getUserId();
+    }
+
+    @Benchmark
+    public long requestLifecycle(RequestThread thread) {
+        userContext.setUserId(thread.userId);
+        long userId = userContext.getUserId();
+        userContext.clear();
+        return userId;
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public long readAllCores(RequestThread thread) {
+        return userContext.getUserId();
+    }
+}
@@ -1,6 +1,8 @@
 package faang.school.postservice.client;
 
 import faang.school.postservice.config.context.UserContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -8,7 +10,7 @@ import org.springframework.context.annotation.Configuration;
 public class FeignConfig {
 
     @Bean
-    public FeignUserInterceptor feignUserInterceptor(UserContext userContext) {
-        return new FeignUserInterceptor(userContext);
+    public FeignUserInterceptor feignUserInterceptor(UserContext userContext, Tracer tracer, Propagator propagator) {
+        return new FeignUserInterceptor(userContext, tracer, propagator);
     }
 }
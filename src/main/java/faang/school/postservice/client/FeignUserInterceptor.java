@@ -3,15 +3,29 @@ package faang.school.postservice.client;
 import faang.school.postservice.config.context.UserContext;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
+
 @RequiredArgsConstructor
 public class FeignUserInterceptor implements RequestInterceptor {
 
     private final UserContext userContext;
+    private final Tracer tracer;
+    private final Propagator propagator;
 
     @Override
     public void apply(RequestTemplate template) {
-        template.header("x-user-id", String.valueOf(userContext.getUserId()));
+        userContext.findUserId().ifPresent(userId -> template.header("x-user-id", String.valueOf(userId)));
+        TraceContext traceContext = tracer.currentTraceContext().context();
+        if (traceContext != null) {
+            propagator.inject(traceContext, template, (carrier, key, value) -> {
+                carrier.header(key, List.of());
+                carrier.header(key, value);
+            });
+        }
     }
 }
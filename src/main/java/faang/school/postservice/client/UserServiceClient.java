@@ -17,4 +17,13 @@ public interface UserServiceClient {
 
     @PostMapping("/users")
     List<UserDto> getUsersByIds(@RequestBody List<Long> ids);
+
+    @GetMapping("/users/{userId}/followers/ids")
+    List<Long> getFollowerIds(@PathVariable long userId);
+
+    @GetMapping("/users/{userId}/followers/count")
+    long getFollowersCount(@PathVariable long userId);
+
+    @GetMapping("/users/{userId}/followees/ids")
+    List<Long> getFolloweeIds(@PathVariable long userId);
 }
@@ -0,0 +1,91 @@
+package faang.school.postservice.client.resilience;
+
+import feign.Capability;
+import feign.Client;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class ClientResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry clientCircuitBreakerRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${client.resilience.failure-rate-threshold}") float failureRateThreshold,
+            @Value("${client.resilience.slow-call-threshold-ms}") long slowCallThresholdMs,
+            @Value("${client.resilience.sliding-window-size}") int slidingWindowSize,
+            @Value("${client.resilience.minimum-calls}") int minimumCalls,
+            @Value("${client.resilience.open-state-ms}") long openStateMs) {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(failureRateThreshold)
+                .slowCallRateThreshold(failureRateThreshold)
+                .slowCallDurationThreshold(Duration.ofMillis(slowCallThresholdMs))
+                .slidingWindowSize(slidingWindowSize)
+                .minimumNumberOfCalls(minimumCalls)
+                .waitDurationInOpenState(Duration.ofMillis(openStateMs))
+                .automaticTransitionFromOpenToHalfOpenEnabled(true)
+                .build());
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public BulkheadRegistry clientBulkheadRegistry(
+            MeterRegistry meterRegistry,
+            @Value("${client.resilience.max-wait-ms}") long maxWaitMs,
+            @Value("#{${client.resilience.max-concurrent-calls}}") Map<String, Integer> maxConcurrentCalls) {
+        BulkheadRegistry registry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(maxConcurrentCalls.getOrDefault("default", BulkheadConfig.DEFAULT_MAX_CONCURRENT_CALLS))
+                .maxWaitDuration(Duration.ofMillis(maxWaitMs))
+                .build());
+        maxConcurrentCalls.forEach((client, limit) -> registry.bulkhead(client, BulkheadConfig.custom()
+                .maxConcurrentCalls(limit)
+                .maxWaitDuration(Duration.ofMillis(maxWaitMs))
+                .build()));
+        TaggedBulkheadMetrics.ofBulkheadRegistry(registry).bindTo(meterRegistry);
+        return registry;
+    }
+
+    @Bean
+    public HedgingPolicy hedgingPolicy(@Value("${client.hedging.enabled}") boolean enabled,
+                                       @Value("${client.hedging.clients}") List<String> clients,
+                                       @Value("${client.hedging.delay-ms}") long delayMs) {
+        return new HedgingPolicy(enabled, new HashSet<>(clients), Duration.ofMillis(delayMs));
+    }
+
+    @Bean(destroyMethod = "close")
+    public ExecutorService hedgingExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("feign-hedge-", 0).factory());
+    }
+
+    @Bean
+    public Capability resilienceCapability(CircuitBreakerRegistry clientCircuitBreakerRegistry,
+                                           BulkheadRegistry clientBulkheadRegistry,
+                                           HedgingPolicy hedgingPolicy,
+                                           @Qualifier("hedgingExecutor") ExecutorService hedgingExecutor,
+                                           MeterRegistry meterRegistry) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return new ResilientClient(client, clientCircuitBreakerRegistry, clientBulkheadRegistry,
+                        hedgingPolicy, hedgingExecutor, meterRegistry);
+            }
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package faang.school.postservice.client.resilience;
+
+import feign.Request;
+
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Hedging is only safe for idempotent reads, so it never applies to anything but GET requests of the listed clients.
+ */
+public record HedgingPolicy(
+        boolean enabled,
+        Set<String> clients,
+        Duration delay
+) {
+
+    public static HedgingPolicy disabled() {
+        return new HedgingPolicy(false, Set.of(), Duration.ZERO);
+    }
+
+    public boolean appliesTo(String client, Request request) {
+        return enabled && request.httpMethod() == Request.HttpMethod.GET && clients.contains(client);
+    }
+}
@@ -0,0 +1,150 @@
+package faang.school.postservice.client.resilience;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Wraps the HTTP client of every Feign client with a per-client bulkhead and circuit breaker, keyed by the Feign
+ * client name. Both run on the calling thread, so nothing bound to it (such as the user context) is lost.
+ * Responses with a 5xx status count as failures even though Feign only turns them into exceptions later.
+ * <p>
+ * When the {@link HedgingPolicy} applies, a second attempt is sent if the first has not answered within the
+ * hedging delay, and the first successful response wins. The losing response is closed to free its connection.
+ */
+public class ResilientClient implements Client {
+
+    private final Client delegate;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final BulkheadRegistry bulkheads;
+    private final HedgingPolicy hedgingPolicy;
+    private final ExecutorService hedgingExecutor;
+    private final MeterRegistry meterRegistry;
+
+    public ResilientClient(Client delegate, CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads,
+                           HedgingPolicy hedgingPolicy, ExecutorService hedgingExecutor, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreakers = circuitBreakers;
+        this.bulkheads = bulkheads;
+        this.hedgingPolicy = hedgingPolicy;
+        this.hedgingExecutor = hedgingExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String client = clientName(request);
+        if (!hedgingPolicy.appliesTo(client, request)) {
+            return attempt(client, request, options);
+        }
+        return hedged(client, request, options);
+    }
+
+    private Response attempt(String client, Request request, Request.Options options) throws IOException {
+        Bulkhead bulkhead = bulkheads.bulkhead(client);
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(client);
+        bulkhead.acquirePermission();
+        try {
+            circuitBreaker.acquirePermission();
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                Response response = delegate.execute(request, options);
+                long duration = circuitBreaker.getCurrentTimestamp() - start;
+                if (response.status() >= 500) {
+                    circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                            new IOException(client + " responded with " + response.status()));
+                } else {
+                    circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+                throw e;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    private Response hedged(String client, Request request, Request.Options options) throws IOException {
+        CompletableFuture<Response> primary = submit(client, request, options);
+        try {
+            return primary.get(hedgingPolicy.delay().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            meterRegistry.counter("feign.hedged.requests", "client", client).increment();
+        } catch (ExecutionException e) {
+            throw rethrow(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.thenAccept(Response::close);
+            throw new IOException("Interrupted while waiting for " + client, e);
+        }
+        CompletableFuture<Response> hedge = submit(client, request, options);
+        try {
+            return firstSuccessful(List.of(primary, hedge)).join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private CompletableFuture<Response> submit(String client, Request request, Request.Options options) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return attempt(client, request, options);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, hedgingExecutor);
+    }
+
+    private CompletableFuture<Response> firstSuccessful(List<CompletableFuture<Response>> attempts) {
+        CompletableFuture<Response> winner = new CompletableFuture<>();
+        AtomicInteger failed = new AtomicInteger();
+        attempts.forEach(attempt -> attempt.whenComplete((response, error) -> {
+            if (error == null) {
+                if (!winner.complete(response)) {
+                    response.close();
+                }
+            } else if (failed.incrementAndGet() == attempts.size()) {
+                winner.completeExceptionally(error);
+            }
+        }));
+        return winner;
+    }
+
+    private IOException rethrow(Throwable cause) {
+        if (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof UncheckedIOException unchecked) {
+            return unchecked.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) {
+            throw runtime;
+        }
+        return new IOException(cause);
+    }
+
+    private String clientName(Request request) {
+        if (request.requestTemplate() != null && request.requestTemplate().feignTarget() != null) {
+            return request.requestTemplate().feignTarget().name();
+        }
+        return "unknown";
+    }
+}
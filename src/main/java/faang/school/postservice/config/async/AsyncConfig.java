@@ -0,0 +1,84 @@
+package faang.school.postservice.config.async;
+
+import faang.school.postservice.config.context.UserContext;
+import io.micrometer.context.ContextSnapshot;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+@EnableAsync
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final UserContext userContext;
+
+    @Bean
+    public ThreadPoolTaskExecutor feedExecutor(@Value("${feed.fan-out.pool-size}") int poolSize,
+                                               @Value("${feed.fan-out.queue-capacity}") int queueCapacity) {
+        return buildExecutor("feed-", poolSize, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor publisherExecutor(@Value("${post.publisher.workers}") int workers) {
+        return buildExecutor("post-publisher-", workers, workers);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor exportExecutor(@Value("${post.export.workers}") int workers,
+                                                 @Value("${post.export.queue-capacity}") int queueCapacity) {
+        return buildExecutor("post-export-", workers, queueCapacity, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor uploadExecutor(@Value("${resource.upload.workers}") int workers,
+                                                 @Value("${resource.upload.queue-capacity}") int queueCapacity) {
+        return buildExecutor("resource-upload-", workers, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor thumbnailExecutor(@Value("${resource.thumbnail.workers}") int workers,
+                                                    @Value("${resource.thumbnail.queue-capacity}") int queueCapacity) {
+        return buildExecutor("resource-thumbnail-", workers, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor adPaymentExecutor(@Value("${ad.payment.workers}") int workers,
+                                                    @Value("${ad.payment.queue-capacity}") int queueCapacity) {
+        return buildExecutor("ad-payment-", workers, queueCapacity);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor purgeExecutor() {
+        return buildExecutor("post-purge-", 1, 1);
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor partitionExecutor() {
+        return buildExecutor("comment-partition-", 1, 1);
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        return buildExecutor(threadNamePrefix, poolSize, queueCapacity, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private ThreadPoolTaskExecutor buildExecutor(String threadNamePrefix, int poolSize, int queueCapacity,
+                                                 RejectedExecutionHandler rejectedExecutionHandler) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.setTaskDecorator(task -> ContextSnapshot.captureAll().wrap(userContext.wrap(task)));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,6 +2,8 @@ package faang.school.postservice.config.context;
 
 import org.springframework.stereotype.Component;
 
+import java.util.OptionalLong;
+
 @Component
 public class UserContext {
 
@@ -12,10 +14,40 @@ public class UserContext {
     }
 
     public long getUserId() {
-        return userIdHolder.get();
+        return findUserId().orElseThrow(() -> new IllegalArgumentException("Request has no x-user-id header"));
+    }
+
+    public OptionalLong findUserId() {
+        Long userId = userIdHolder.get();
+        return userId == null ? OptionalLong.empty() : OptionalLong.of(userId);
     }
 
     public void clear() {
         userIdHolder.remove();
     }
+
+    /**
+     * Captures the caller's user id so that the task sees it on whatever thread it runs,
+     * restoring that thread's previous value afterwards.
+     */
+    public Runnable wrap(Runnable task) {
+        Long userId = userIdHolder.get();
+        return () -> {
+            Long previous = userIdHolder.get();
+            bind(userId);
+            try {
+                task.run();
+            } finally {
+                bind(previous);
+            }
+        };
+    }
+
+    private void bind(Long userId) {
+        if (userId == null) {
+            userIdHolder.remove();
+        } else {
+            userIdHolder.set(userId);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+package faang.school.postservice.config.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import faang.school.postservice.config.context.UserContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+
+/**
+ * Pins a user's reads to the primary for a short while after they commit a write, so they always see their own
+ * changes regardless of replica lag. The marker lives in Redis so the next request may land on any instance;
+ * a missing marker is remembered locally for {@code datasource.sticky.negative-ttl-ms}, so the read-only
+ * transactions of one request share a single Redis lookup.
+ */
+@Slf4j
+@Component
+public class ReadYourWritesTracker {
+
+    private static final String STICKY_KEY = "db:sticky:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final UserContext userContext;
+    private final Cache<Long, Boolean> localSticky;
+    private final Cache<Long, Boolean> localNotSticky;
+    private final Duration ttl;
+
+    public ReadYourWritesTracker(StringRedisTemplate redisTemplate, UserContext userContext,
+                                 @Value("${datasource.sticky.ttl-ms}") long ttlMs,
+                                 @Value("${datasource.sticky.negative-ttl-ms}") long negativeTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.userContext = userContext;
+        this.ttl = Duration.ofMillis(ttlMs);
+        this.localSticky = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(ttl)
+                .build();
+        this.localNotSticky = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMillis(negativeTtlMs))
+                .build();
+    }
+
+    /**
+     * Marks the current user sticky once the surrounding read-write transaction commits.
+     */
+    public void onWriteTransaction() {
+        OptionalLong userId = userContext.findUserId();
+        if (userId.isEmpty() || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                mark(userId.getAsLong());
+            }
+        });
+    }
+
+    public boolean isSticky() {
+        OptionalLong userId = userContext.findUserId();
+        if (userId.isEmpty()) {
+            return false;
+        }
+        if (localSticky.getIfPresent(userId.getAsLong()) != null) {
+            return true;
+        }
+        if (localNotSticky.getIfPresent(userId.getAsLong()) != null) {
+            return false;
+        }
+        try {
+            boolean sticky = Boolean.TRUE.equals(redisTemplate.hasKey(STICKY_KEY + userId.getAsLong()));
+            if (!sticky) {
+                localNotSticky.put(userId.getAsLong(), Boolean.TRUE);
+            }
+            return sticky;
+        } catch (DataAccessException e) {
+            log.debug("Failed to read sticky marker for user {}, reading from primary", userId.getAsLong(), e);
+            return true;
+        }
+    }
+
+    private void mark(long userId) {
+        localSticky.put(userId, Boolean.TRUE);
+        localNotSticky.invalidate(userId);
+        try {
+            redisTemplate.opsForValue().set(STICKY_KEY + userId, "1", ttl);
+        } catch (DataAccessException e) {
+            log.warn("Failed to store sticky marker for user {}", userId, e);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package faang.school.postservice.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Sends connections of read-only transactions to a replica and everything else to the primary. Must sit behind a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}: the read-only flag is bound only after
+ * the transaction manager has asked for a connection, so the target is resolved on the first statement.
+ * Long reads that a replica could cancel on a recovery conflict are pinned to the primary with {@link #onPrimary}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final ReplicaSet replicaSet;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final Counter replicaReads;
+    private final Counter stickyReads;
+    private final Counter fallbackReads;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaSet replicaSet,
+                                    ReadYourWritesTracker readYourWritesTracker, MeterRegistry meterRegistry) {
+        this.replicaSet = replicaSet;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.replicaReads = meterRegistry.counter("datasource.routing.reads", "target", "replica");
+        this.stickyReads = meterRegistry.counter("datasource.routing.reads", "target", "primary-sticky");
+        this.fallbackReads = meterRegistry.counter("datasource.routing.reads", "target", "primary-lagging");
+        Map<Object, Object> targets = new HashMap<>(replicaSet.dataSources());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    /**
+     * Runs the action with every connection it opens on this thread routed to the primary, read-only or not.
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PINNED.get();
+        PINNED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PINNED.remove();
+            } else {
+                PINNED.set(previous);
+            }
+        }
+    }
+
+    public static void onPrimary(Runnable action) {
+        onPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                readYourWritesTracker.onWriteTransaction();
+            }
+            return PRIMARY;
+        }
+        if (replicaSet.isEmpty() || PINNED.get() != null) {
+            return PRIMARY;
+        }
+        if (readYourWritesTracker.isSticky()) {
+            stickyReads.increment();
+            return PRIMARY;
+        }
+        return replicaSet.nextAvailable()
+                .map(replica -> {
+                    replicaReads.increment();
+                    return (Object) replica;
+                })
+                .orElseGet(() -> {
+                    fallbackReads.increment();
+                    return PRIMARY;
+                });
+    }
+}
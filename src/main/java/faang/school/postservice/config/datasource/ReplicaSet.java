@@ -0,0 +1,146 @@
+package faang.school.postservice.config.datasource;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read replica pools and their replication lag. A replica serves reads only while its last measured lag is within
+ * {@code datasource.replicas.max-lag-ms}; a replica that is not streaming from the primary counts as lagging.
+ */
+@Slf4j
+@Component
+public class ReplicaSet {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN NOT EXISTS (SELECT 1 FROM pg_stat_wal_receiver) THEN NULL
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+
+    private final List<Replica> replicas = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private final long maxLagMs;
+
+    public ReplicaSet(HikariDataSource primary, MeterRegistry meterRegistry,
+                      @Value("${datasource.replicas.urls}") List<String> urls,
+                      @Value("${datasource.replicas.pool-size}") int poolSize,
+                      @Value("${datasource.replicas.max-lag-ms}") long maxLagMs,
+                      @Value("${datasource.replicas.lag-query-timeout-seconds}") int lagQueryTimeoutSeconds) {
+        this.maxLagMs = maxLagMs;
+        for (String url : urls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = primary.getPoolName() + "-replica-" + replicas.size();
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setPoolName(name);
+            config.setJdbcUrl(url.trim());
+            config.setMaximumPoolSize(poolSize);
+            config.setReadOnly(true);
+            config.setInitializationFailTimeout(-1);
+            config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            HikariDataSource dataSource = new HikariDataSource(config);
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.setQueryTimeout(lagQueryTimeoutSeconds);
+            Replica replica = new Replica(name, dataSource, jdbcTemplate);
+            replicas.add(replica);
+            Gauge.builder("datasource.replica.lag", replica, r -> r.lagMs)
+                    .tag("pool", name)
+                    .baseUnit("milliseconds")
+                    .register(meterRegistry);
+        }
+    }
+
+    public Map<Object, Object> dataSources() {
+        Map<Object, Object> dataSources = new LinkedHashMap<>();
+        replicas.forEach(replica -> dataSources.put(replica.name, replica.dataSource));
+        return dataSources;
+    }
+
+    /**
+     * Round-robins over the replicas currently within the lag limit.
+     */
+    public Optional<String> nextAvailable() {
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return Optional.of(replica.name);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Worst lag among the replicas, or zero without replicas; an unreachable replica counts as infinitely behind.
+     */
+    public double maxLagMs() {
+        return replicas.stream()
+                .mapToDouble(replica -> Double.isNaN(replica.lagMs) ? Double.POSITIVE_INFINITY : replica.lagMs)
+                .max()
+                .orElse(0);
+    }
+
+    public boolean isEmpty() {
+        return replicas.isEmpty();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replicas.lag-check-ms}")
+    public void checkLag() {
+        replicas.forEach(replica -> {
+            Double lagMs = null;
+            try {
+                lagMs = replica.jdbcTemplate.queryForObject(LAG_SQL, Double.class);
+            } catch (DataAccessException e) {
+                log.warn("Failed to check replication lag of {}", replica.name, e);
+            }
+            boolean available = lagMs != null && lagMs <= maxLagMs;
+            if (available != replica.available) {
+                log.info("Replica {} is now {} (lag {} ms)", replica.name, available ? "available" : "lagging", lagMs);
+            }
+            replica.lagMs = lagMs == null ? Double.NaN : lagMs;
+            replica.available = available;
+        });
+    }
+
+    @PreDestroy
+    public void close() {
+        replicas.forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private final JdbcTemplate jdbcTemplate;
+        private volatile double lagMs = Double.NaN;
+        private volatile boolean available;
+
+        private Replica(String name, HikariDataSource dataSource, JdbcTemplate jdbcTemplate) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.jdbcTemplate = jdbcTemplate;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package faang.school.postservice.config.enrichment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import faang.school.postservice.client.ProjectServiceClient;
+import faang.school.postservice.client.UserServiceClient;
+import faang.school.postservice.dto.project.ProjectDto;
+import faang.school.postservice.dto.user.UserDto;
+import faang.school.postservice.service.enrichment.BatchLoader;
+import faang.school.postservice.service.enrichment.RedisSecondLevelCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+public class EnrichmentConfig {
+
+    @Value("${enrichment.window-ms}")
+    private long windowMs;
+
+    @Value("${enrichment.max-batch-size}")
+    private int maxBatchSize;
+
+    @Value("${enrichment.cache.max-size}")
+    private long cacheMaxSize;
+
+    @Value("${enrichment.cache.ttl-seconds}")
+    private long cacheTtlSeconds;
+
+    @Value("${enrichment.cache.redis-enabled}")
+    private boolean redisEnabled;
+
+    @Value("${enrichment.cache.unknown-ttl-seconds}")
+    private long unknownTtlSeconds;
+
+    @Value("${enrichment.threads}")
+    private int threads;
+
+    @Value("${concurrency.virtual-threads.enabled}")
+    private boolean virtualThreads;
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService userLoaderScheduler() {
+        return loaderScheduler("enrichment-user-");
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ScheduledExecutorService projectLoaderScheduler() {
+        return loaderScheduler("enrichment-project-");
+    }
+
+    @Bean
+    public BatchLoader<UserDto> userLoader(UserServiceClient userServiceClient,
+                                           ScheduledExecutorService userLoaderScheduler,
+                                           StringRedisTemplate redisTemplate,
+                                           ObjectMapper objectMapper) {
+        return new BatchLoader<>(
+                userServiceClient::getUsersByIds,
+                UserDto::getId,
+                Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                        .build(),
+                redisEnabled ? new RedisSecondLevelCache<>(redisTemplate, objectMapper, "enrichment:user:",
+                        UserDto.class, Duration.ofSeconds(cacheTtlSeconds)) : null,
+                userLoaderScheduler,
+                Duration.ofMillis(windowMs),
+                maxBatchSize,
+                Duration.ofSeconds(unknownTtlSeconds));
+    }
+
+    @Bean
+    public BatchLoader<ProjectDto> projectLoader(ProjectServiceClient projectServiceClient,
+                                                 ScheduledExecutorService userLoaderScheduler,
+                                                 StringRedisTemplate redisTemplate,
+                                                 ObjectMapper objectMapper) {
+        return new BatchLoader<>(
+                projectServiceClient::getProjectsByIds,
+                ProjectDto::getId,
+                Caffeine.newBuilder()
+                        .maximumSize(cacheMaxSize)
+                        .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                        .build(),
+                redisEnabled ? new RedisSecondLevelCache<>(redisTemplate, objectMapper, "enrichment:project:",
+                        ProjectDto.class, Duration.ofSeconds(cacheTtlSeconds)) : null,
+                projectLoaderScheduler,
+                Duration.ofMillis(windowMs),
+                maxBatchSize,
+                Duration.ofSeconds(unknownTtlSeconds));
+    }
+
+    private ScheduledExecutorService loaderScheduler(String name) {
+        ThreadFactory threadFactory = virtualThreads
+                ? Thread.ofVirtual().name(name, 0).factory()
+                : Thread.ofPlatform().name(name, 0).factory();
+        return Executors.newScheduledThreadPool(threads, threadFactory);
+    }
+}
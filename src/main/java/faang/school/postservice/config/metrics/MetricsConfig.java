@@ -0,0 +1,19 @@
+package faang.school.postservice.config.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Spring Data repositories are timed by actuator itself; {@link TimedAspect} covers the JDBC repositories,
+ * which carry {@code @Timed} and are tagged with their class and method.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+}
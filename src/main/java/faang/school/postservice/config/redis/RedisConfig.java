@@ -0,0 +1,28 @@
+package faang.school.postservice.config.redis;
+
+import faang.school.postservice.service.cache.PostCacheInvalidationListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+public class RedisConfig {
+
+    @Bean
+    public ChannelTopic postCacheTopic(@Value("${spring.data.redis.channels.post_cache_channel.name}") String name) {
+        return new ChannelTopic(name);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       PostCacheInvalidationListener postCacheListener,
+                                                                       ChannelTopic postCacheTopic) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(postCacheListener, postCacheTopic);
+        return container;
+    }
+}
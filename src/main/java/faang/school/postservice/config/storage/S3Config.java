@@ -0,0 +1,30 @@
+package faang.school.postservice.config.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
+
+@Configuration
+public class S3Config {
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(@Value("${resource.storage.endpoint}") String endpoint,
+                             @Value("${resource.storage.region}") String region,
+                             @Value("${resource.storage.access-key}") String accessKey,
+                             @Value("${resource.storage.secret-key}") String secretKey,
+                             @Value("${resource.storage.path-style}") boolean pathStyle) {
+        return S3Client.builder()
+                .endpointOverride(URI.create(endpoint))
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(pathStyle).build())
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.config.context.UserContext;
+import faang.school.postservice.dto.ad.AdDto;
+import faang.school.postservice.dto.ad.AdPurchaseDto;
+import faang.school.postservice.service.ad.AdImpressionService;
+import faang.school.postservice.service.ad.AdPurchaseService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/ads")
+@RequiredArgsConstructor
+public class AdController {
+
+    private final AdImpressionService adImpressionService;
+    private final AdPurchaseService adPurchaseService;
+    private final UserContext userContext;
+
+    @PostMapping("/posts/{postId}")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public AdDto purchaseAd(@PathVariable long postId, @Valid @RequestBody AdPurchaseDto request) {
+        return adPurchaseService.purchase(postId, userContext.getUserId(), request);
+    }
+
+    @GetMapping("/{adId}")
+    public AdDto getAd(@PathVariable long adId) {
+        return adPurchaseService.getAd(adId, userContext.getUserId());
+    }
+
+    @PostMapping("/{adId}/impressions")
+    public boolean registerImpression(@PathVariable long adId) {
+        return adImpressionService.tryServe(adId);
+    }
+}
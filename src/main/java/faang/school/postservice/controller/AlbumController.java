@@ -0,0 +1,66 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.config.context.UserContext;
+import faang.school.postservice.dto.album.AlbumDto;
+import faang.school.postservice.dto.bulk.BulkResultDto;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.service.album.AlbumService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/albums")
+@RequiredArgsConstructor
+public class AlbumController {
+
+    private final AlbumService albumService;
+    private final UserContext userContext;
+
+    @GetMapping("/{albumId}/posts")
+    public CursorPage<PostDto> getAlbumPosts(@PathVariable long albumId,
+                                             @RequestParam(required = false) String cursor,
+                                             @RequestParam(defaultValue = "20") int size) {
+        return albumService.getAlbumPosts(albumId, cursor, size);
+    }
+
+    @PostMapping("/{albumId}/posts/bulk")
+    public BulkResultDto addPosts(@PathVariable long albumId, @RequestBody List<Long> postIds) {
+        return albumService.addPosts(albumId, userContext.getUserId(), postIds);
+    }
+
+    @PutMapping("/{albumId}/posts/{postId}")
+    public void addPost(@PathVariable long albumId, @PathVariable long postId) {
+        albumService.addPost(albumId, userContext.getUserId(), postId);
+    }
+
+    @DeleteMapping("/{albumId}/posts/{postId}")
+    public void removePost(@PathVariable long albumId, @PathVariable long postId) {
+        albumService.removePost(albumId, userContext.getUserId(), postId);
+    }
+
+    @GetMapping("/favorites")
+    public List<AlbumDto> getFavoriteAlbums() {
+        return albumService.getFavoriteAlbums(userContext.getUserId());
+    }
+
+    @PutMapping("/{albumId}/favorite")
+    public void addToFavorites(@PathVariable long albumId) {
+        albumService.addToFavorites(albumId, userContext.getUserId());
+    }
+
+    @DeleteMapping("/{albumId}/favorite")
+    public void removeFromFavorites(@PathVariable long albumId) {
+        albumService.removeFromFavorites(albumId, userContext.getUserId());
+    }
+}
@@ -0,0 +1,56 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.config.context.UserContext;
+import faang.school.postservice.dto.bulk.BulkResultDto;
+import faang.school.postservice.dto.comment.CommentDto;
+import faang.school.postservice.dto.counter.CommentCountersDto;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.service.comment.CommentService;
+import faang.school.postservice.service.counter.CounterService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class CommentController {
+
+    private final CommentService commentService;
+    private final CounterService counterService;
+    private final UserContext userContext;
+
+    @PostMapping("/posts/{postId}/comments")
+    public CommentDto createComment(@PathVariable long postId, @Valid @RequestBody CommentDto commentDto) {
+        return commentService.createComment(postId, userContext.getUserId(), commentDto);
+    }
+
+    @PostMapping("/posts/{postId}/comments/bulk")
+    public BulkResultDto importComments(@PathVariable long postId, @RequestBody List<CommentDto> comments) {
+        return commentService.importComments(postId, userContext.getUserId(), comments);
+    }
+
+    @GetMapping("/posts/{postId}/comments")
+    public CursorPage<CommentDto> getComments(@PathVariable long postId,
+                                              @RequestParam(required = false) String cursor,
+                                              @RequestParam(defaultValue = "20") int size) {
+        return commentService.getComments(postId, cursor, size);
+    }
+
+    @DeleteMapping("/comments/{commentId}")
+    public void deleteComment(@PathVariable long commentId) {
+        commentService.deleteComment(commentId, userContext.getUserId());
+    }
+
+    @GetMapping("/comments/counters")
+    public List<CommentCountersDto> getCommentCounters(@RequestParam List<Long> ids) {
+        return counterService.getCommentCounters(ids);
+    }
+}
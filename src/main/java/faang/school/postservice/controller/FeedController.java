@@ -0,0 +1,26 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.config.context.UserContext;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.service.feed.FeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/feed")
+@RequiredArgsConstructor
+public class FeedController {
+
+    private final FeedService feedService;
+    private final UserContext userContext;
+
+    @GetMapping
+    public CursorPage<PostDto> getFeed(@RequestParam(required = false) String cursor,
+                                       @RequestParam(defaultValue = "20") int size) {
+        return feedService.getFeed(userContext.getUserId(), cursor, size);
+    }
+}
@@ -0,0 +1,70 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.config.context.UserContext;
+import faang.school.postservice.dto.bulk.BulkResultDto;
+import faang.school.postservice.dto.like.LikeDto;
+import faang.school.postservice.dto.like.LikeStateDto;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.service.like.LikeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class LikeController {
+
+    private final LikeService likeService;
+    private final UserContext userContext;
+
+    @PostMapping("/posts/{postId}/likes")
+    public LikeStateDto likePost(@PathVariable long postId) {
+        return likeService.likePost(postId, userContext.getUserId());
+    }
+
+    @DeleteMapping("/posts/{postId}/likes")
+    public LikeStateDto unlikePost(@PathVariable long postId) {
+        return likeService.unlikePost(postId, userContext.getUserId());
+    }
+
+    @GetMapping("/posts/liked")
+    public List<Long> getLikedPosts(@RequestParam List<Long> ids) {
+        return likeService.getLikedPosts(userContext.getUserId(), ids);
+    }
+
+    @PostMapping("/comments/{commentId}/likes")
+    public LikeStateDto likeComment(@PathVariable long commentId) {
+        return likeService.likeComment(commentId, userContext.getUserId());
+    }
+
+    @DeleteMapping("/comments/{commentId}/likes")
+    public LikeStateDto unlikeComment(@PathVariable long commentId) {
+        return likeService.unlikeComment(commentId, userContext.getUserId());
+    }
+
+    @PostMapping("/likes/bulk")
+    public BulkResultDto importLikes(@RequestBody List<LikeDto> likes) {
+        return likeService.importLikes(userContext.getUserId(), likes);
+    }
+
+    @GetMapping("/posts/{postId}/likes")
+    public CursorPage<LikeDto> getPostLikes(@PathVariable long postId,
+                                            @RequestParam(required = false) String cursor,
+                                            @RequestParam(defaultValue = "20") int size) {
+        return likeService.getPostLikes(postId, cursor, size);
+    }
+
+    @GetMapping("/comments/{commentId}/likes")
+    public CursorPage<LikeDto> getCommentLikes(@PathVariable long commentId,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(defaultValue = "20") int size) {
+        return likeService.getCommentLikes(commentId, cursor, size);
+    }
+}
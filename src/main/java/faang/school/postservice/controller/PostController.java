@@ -0,0 +1,133 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.config.context.UserContext;
+import faang.school.postservice.dto.counter.PostCountersDto;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.trending.TrendingPostDto;
+import faang.school.postservice.service.counter.CounterService;
+import faang.school.postservice.service.export.PostExportService;
+import faang.school.postservice.service.post.PostService;
+import faang.school.postservice.service.trending.TrendingService;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/posts")
+public class PostController {
+
+    private final PostService postService;
+    private final CounterService counterService;
+    private final PostExportService postExportService;
+    private final TrendingService trendingService;
+    private final UserContext userContext;
+    private final ThreadPoolTaskExecutor exportExecutor;
+
+    @Value("${post.export.timeout-ms}")
+    private long exportTimeoutMs;
+
+    public PostController(PostService postService,
+                          CounterService counterService,
+                          PostExportService postExportService,
+                          TrendingService trendingService,
+                          UserContext userContext,
+                          @Qualifier("exportExecutor") ThreadPoolTaskExecutor exportExecutor) {
+        this.postService = postService;
+        this.counterService = counterService;
+        this.postExportService = postExportService;
+        this.trendingService = trendingService;
+        this.userContext = userContext;
+        this.exportExecutor = exportExecutor;
+    }
+
+    @GetMapping("/{postId}")
+    public PostDto getPost(@PathVariable long postId) {
+        PostDto post = postService.getPost(postId, userContext.findUserId());
+        if (post.isPublished()) {
+            trendingService.recordView(postId, post.getProjectId());
+        }
+        return post;
+    }
+
+    @GetMapping("/trending")
+    public List<TrendingPostDto> getTrending(@RequestParam(defaultValue = "hour") String window,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        return trendingService.getTrending(window, null, limit);
+    }
+
+    @GetMapping("/projects/{projectId}/trending")
+    public List<TrendingPostDto> getProjectTrending(@PathVariable long projectId,
+                                                    @RequestParam(defaultValue = "hour") String window,
+                                                    @RequestParam(defaultValue = "20") int limit) {
+        return trendingService.getTrending(window, projectId, limit);
+    }
+
+    @PutMapping("/{postId}")
+    public PostDto updatePost(@PathVariable long postId, @Valid @RequestBody PostDto postDto) {
+        return postService.updatePost(postId, userContext.getUserId(), postDto);
+    }
+
+    @DeleteMapping("/{postId}")
+    public void deletePost(@PathVariable long postId) {
+        postService.deletePost(postId, userContext.getUserId());
+    }
+
+    @PutMapping("/{postId}/publish")
+    public PostDto publishPost(@PathVariable long postId) {
+        return postService.publishPost(postId, userContext.getUserId());
+    }
+
+    @GetMapping("/counters")
+    public List<PostCountersDto> getPostCounters(@RequestParam List<Long> ids) {
+        return counterService.getPostCounters(ids);
+    }
+
+    @GetMapping("/authors/{authorId}")
+    public CursorPage<PostDto> getPostsByAuthor(@PathVariable long authorId,
+                                                @RequestParam(required = false) String cursor,
+                                                @RequestParam(defaultValue = "20") int size) {
+        return postService.getPostsByAuthor(authorId, userContext.findUserId(), cursor, size);
+    }
+
+    @GetMapping(value = "/authors/{authorId}/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public WebAsyncTask<Void> exportAuthorPosts(
+            @PathVariable long authorId,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletResponse response) {
+        postExportService.checkCanExport(authorId, userContext.getUserId());
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        return new WebAsyncTask<>(exportTimeoutMs, exportExecutor, () -> {
+            response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts-" + authorId + ".ndjson\"");
+            if (gzip) {
+                response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            postExportService.export(authorId, response.getOutputStream(), gzip);
+            return null;
+        });
+    }
+
+    @GetMapping("/projects/{projectId}")
+    public CursorPage<PostDto> getPostsByProject(@PathVariable long projectId,
+                                                 @RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "20") int size) {
+        return postService.getPostsByProject(projectId, cursor, size);
+    }
+}
@@ -0,0 +1,75 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.config.context.UserContext;
+import faang.school.postservice.dto.resource.ResourceDto;
+import faang.school.postservice.dto.resource.UploadRequestDto;
+import faang.school.postservice.dto.resource.UploadSessionDto;
+import faang.school.postservice.dto.resource.UploadedPartDto;
+import faang.school.postservice.service.resource.ResourceUploadService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+@RestController
+public class ResourceController {
+
+    private final ResourceUploadService resourceUploadService;
+    private final UserContext userContext;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+
+    @Value("${resource.upload.timeout-ms}")
+    private long uploadTimeoutMs;
+
+    public ResourceController(ResourceUploadService resourceUploadService,
+                              UserContext userContext,
+                              @Qualifier("uploadExecutor") ThreadPoolTaskExecutor uploadExecutor) {
+        this.resourceUploadService = resourceUploadService;
+        this.userContext = userContext;
+        this.uploadExecutor = uploadExecutor;
+    }
+
+    @PostMapping("/posts/{postId}/resources")
+    public UploadSessionDto startUpload(@PathVariable long postId, @Valid @RequestBody UploadRequestDto request) {
+        return resourceUploadService.startUpload(postId, userContext.getUserId(), request);
+    }
+
+    @GetMapping("/resources/{resourceId}/upload")
+    public UploadSessionDto getUploadSession(@PathVariable long resourceId) {
+        return resourceUploadService.getUploadSession(resourceId, userContext.getUserId());
+    }
+
+    @PutMapping(value = "/resources/{resourceId}/parts/{partNumber}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public WebAsyncTask<UploadedPartDto> uploadPart(@PathVariable long resourceId, @PathVariable int partNumber,
+                                                    HttpServletRequest request) {
+        long userId = userContext.getUserId();
+        long contentLength = request.getContentLengthLong();
+        return new WebAsyncTask<>(uploadTimeoutMs, uploadExecutor, () -> resourceUploadService.uploadPart(
+                resourceId, userId, partNumber, contentLength, request.getInputStream()));
+    }
+
+    @PostMapping("/resources/{resourceId}/upload/complete")
+    public ResourceDto completeUpload(@PathVariable long resourceId) {
+        return resourceUploadService.completeUpload(resourceId, userContext.getUserId());
+    }
+
+    @DeleteMapping("/resources/{resourceId}/upload")
+    public void abortUpload(@PathVariable long resourceId) {
+        resourceUploadService.abortUpload(resourceId, userContext.getUserId());
+    }
+
+    @GetMapping("/resources/{resourceId}")
+    public ResourceDto getResource(@PathVariable long resourceId) {
+        return resourceUploadService.getResource(resourceId);
+    }
+}
@@ -0,0 +1,44 @@
+package faang.school.postservice.controller;
+
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.search.CommentSearchHitDto;
+import faang.school.postservice.dto.search.CommentSearchQuery;
+import faang.school.postservice.dto.search.PostSearchHitDto;
+import faang.school.postservice.dto.search.PostSearchQuery;
+import faang.school.postservice.service.search.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    @GetMapping("/posts/search")
+    public CursorPage<PostSearchHitDto> searchPosts(
+            @RequestParam String q,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) Long projectId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime publishedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime publishedTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        PostSearchQuery query = new PostSearchQuery(q, authorId, projectId, publishedFrom, publishedTo);
+        return searchService.searchPosts(query, cursor, size);
+    }
+
+    @GetMapping("/comments/search")
+    public CursorPage<CommentSearchHitDto> searchComments(@RequestParam String q,
+                                                          @RequestParam(required = false) Long postId,
+                                                          @RequestParam(required = false) Long authorId,
+                                                          @RequestParam(required = false) String cursor,
+                                                          @RequestParam(defaultValue = "20") int size) {
+        return searchService.searchComments(new CommentSearchQuery(q, postId, authorId), cursor, size);
+    }
+}
@@ -0,0 +1,28 @@
+package faang.school.postservice.dto.ad;
+
+import faang.school.postservice.dto.payment.Currency;
+import faang.school.postservice.model.ad.AdStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdDto {
+    private Long id;
+    private Long postId;
+    private Long buyerId;
+    private AdStatus status;
+    private long appearancesLeft;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private BigDecimal amount;
+    private Currency currency;
+    private String failureReason;
+}
@@ -0,0 +1,25 @@
+package faang.school.postservice.dto.ad;
+
+import faang.school.postservice.dto.payment.Currency;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdPurchaseDto {
+
+    @Positive
+    private long appearances;
+
+    @Positive
+    private int durationDays;
+
+    @NotNull
+    private Currency currency;
+}
@@ -0,0 +1,20 @@
+package faang.school.postservice.dto.album;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AlbumDto {
+    private Long id;
+    private String title;
+    private String description;
+    private Long authorId;
+    private LocalDateTime createdAt;
+}
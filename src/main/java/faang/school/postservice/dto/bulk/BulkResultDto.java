@@ -0,0 +1,6 @@
+package faang.school.postservice.dto.bulk;
+
+public record BulkResultDto(
+        int inserted
+) {
+}
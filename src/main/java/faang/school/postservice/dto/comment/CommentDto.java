@@ -0,0 +1,29 @@
+package faang.school.postservice.dto.comment;
+
+import faang.school.postservice.dto.user.UserDto;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentDto {
+    private Long id;
+
+    @NotBlank
+    @Size(max = 4096)
+    private String content;
+
+    private Long authorId;
+    private Long postId;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private UserDto author;
+}
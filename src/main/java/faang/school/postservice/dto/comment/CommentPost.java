@@ -0,0 +1,4 @@
+package faang.school.postservice.dto.comment;
+
+public record CommentPost(long id, long postId) {
+}
@@ -0,0 +1,13 @@
+package faang.school.postservice.dto.comment;
+
+import java.time.LocalDateTime;
+
+public record CommentView(
+        long id,
+        String content,
+        long authorId,
+        long postId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
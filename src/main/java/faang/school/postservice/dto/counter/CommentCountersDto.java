@@ -0,0 +1,7 @@
+package faang.school.postservice.dto.counter;
+
+public record CommentCountersDto(
+        long commentId,
+        long likes
+) {
+}
@@ -0,0 +1,8 @@
+package faang.school.postservice.dto.counter;
+
+public record PostCountersDto(
+        long postId,
+        long likes,
+        long comments
+) {
+}
@@ -0,0 +1,7 @@
+package faang.school.postservice.dto.error;
+
+public record ErrorResponse(
+        String code,
+        String message
+) {
+}
@@ -0,0 +1,13 @@
+package faang.school.postservice.dto.export;
+
+import java.time.LocalDateTime;
+
+public record CommentExportRow(
+        long postId,
+        long id,
+        String content,
+        long authorId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) implements ExportRow {
+}
@@ -0,0 +1,16 @@
+package faang.school.postservice.dto.export;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = PostExportRow.class, name = "post"),
+        @JsonSubTypes.Type(value = CommentExportRow.class, name = "comment"),
+        @JsonSubTypes.Type(value = LikeExportRow.class, name = "like"),
+        @JsonSubTypes.Type(value = ResourceExportRow.class, name = "resource")
+})
+public sealed interface ExportRow permits PostExportRow, CommentExportRow, LikeExportRow, ResourceExportRow {
+
+    long postId();
+}
@@ -0,0 +1,12 @@
+package faang.school.postservice.dto.export;
+
+import java.time.LocalDateTime;
+
+public record LikeExportRow(
+        long postId,
+        long id,
+        Long commentId,
+        long userId,
+        LocalDateTime createdAt
+) implements ExportRow {
+}
@@ -0,0 +1,15 @@
+package faang.school.postservice.dto.export;
+
+import java.time.LocalDateTime;
+
+public record PostExportRow(
+        long postId,
+        String content,
+        Long projectId,
+        boolean published,
+        LocalDateTime publishedAt,
+        LocalDateTime scheduledAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) implements ExportRow {
+}
@@ -0,0 +1,14 @@
+package faang.school.postservice.dto.export;
+
+import java.time.LocalDateTime;
+
+public record ResourceExportRow(
+        long postId,
+        long id,
+        String name,
+        String key,
+        String type,
+        Long size,
+        LocalDateTime createdAt
+) implements ExportRow {
+}
@@ -0,0 +1,7 @@
+package faang.school.postservice.dto.like;
+
+public record LikeStateDto(
+        boolean liked,
+        long likes
+) {
+}
@@ -0,0 +1,12 @@
+package faang.school.postservice.dto.like;
+
+import java.time.LocalDateTime;
+
+public record LikeView(
+        long id,
+        Long userId,
+        Long postId,
+        Long commentId,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,44 @@
+package faang.school.postservice.dto.page;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+public record Cursor(long position, long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public static Cursor of(LocalDateTime timestamp, long id) {
+        return new Cursor(ChronoUnit.MICROS.between(Instant.EPOCH, timestamp.toInstant(ZoneOffset.UTC)), id);
+    }
+
+    public static Cursor of(float rank, long id) {
+        return new Cursor(Float.floatToIntBits(rank), id);
+    }
+
+    public float rank() {
+        return Float.intBitsToFloat((int) position);
+    }
+
+    public LocalDateTime timestamp() {
+        return LocalDateTime.ofInstant(Instant.EPOCH.plus(position, ChronoUnit.MICROS), ZoneOffset.UTC);
+    }
+
+    public String encode() {
+        String raw = position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new Cursor(Long.parseLong(raw.substring(0, separator)), Long.parseLong(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token);
+        }
+    }
+}
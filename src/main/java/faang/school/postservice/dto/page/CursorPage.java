@@ -0,0 +1,9 @@
+package faang.school.postservice.dto.page;
+
+import java.util.List;
+
+public record CursorPage<T>(
+        List<T> items,
+        String nextCursor
+) {
+}
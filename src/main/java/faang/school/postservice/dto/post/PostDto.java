@@ -0,0 +1,34 @@
+package faang.school.postservice.dto.post;
+
+import faang.school.postservice.dto.project.ProjectDto;
+import faang.school.postservice.dto.user.UserDto;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostDto {
+    private Long id;
+
+    @NotBlank
+    @Size(max = 4096)
+    private String content;
+
+    private Long authorId;
+    private Long projectId;
+    private boolean published;
+    private LocalDateTime publishedAt;
+    private LocalDateTime scheduledAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private UserDto author;
+    private ProjectDto project;
+}
@@ -0,0 +1,4 @@
+package faang.school.postservice.dto.post;
+
+public record PostProject(long id, Long projectId) {
+}
@@ -0,0 +1,16 @@
+package faang.school.postservice.dto.post;
+
+import java.time.LocalDateTime;
+
+public record PostView(
+        Long id,
+        String content,
+        Long authorId,
+        Long projectId,
+        boolean published,
+        LocalDateTime publishedAt,
+        LocalDateTime scheduledAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,25 @@
+package faang.school.postservice.dto.resource;
+
+import faang.school.postservice.model.ResourceStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceDto {
+    private Long id;
+    private Long postId;
+    private String name;
+    private String key;
+    private String type;
+    private long size;
+    private ResourceStatus status;
+    private String thumbnailKey;
+    private LocalDateTime createdAt;
+}
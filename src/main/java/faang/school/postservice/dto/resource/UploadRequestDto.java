@@ -0,0 +1,26 @@
+package faang.school.postservice.dto.resource;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UploadRequestDto {
+
+    @NotBlank
+    @Size(max = 150)
+    private String name;
+
+    @NotBlank
+    private String contentType;
+
+    @Positive
+    private long size;
+}
@@ -0,0 +1,11 @@
+package faang.school.postservice.dto.resource;
+
+import java.util.List;
+
+public record UploadSessionDto(
+        long resourceId,
+        long partSize,
+        int partCount,
+        List<Integer> uploadedParts
+) {
+}
@@ -0,0 +1,7 @@
+package faang.school.postservice.dto.resource;
+
+public record UploadedPartDto(
+        int partNumber,
+        long size
+) {
+}
@@ -0,0 +1,10 @@
+package faang.school.postservice.dto.search;
+
+import faang.school.postservice.dto.comment.CommentDto;
+
+public record CommentSearchHitDto(
+        CommentDto comment,
+        String headline,
+        float rank
+) {
+}
@@ -0,0 +1,8 @@
+package faang.school.postservice.dto.search;
+
+public record CommentSearchQuery(
+        String text,
+        Long postId,
+        Long authorId
+) {
+}
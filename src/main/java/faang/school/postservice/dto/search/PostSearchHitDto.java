@@ -0,0 +1,10 @@
+package faang.school.postservice.dto.search;
+
+import faang.school.postservice.dto.post.PostDto;
+
+public record PostSearchHitDto(
+        PostDto post,
+        String headline,
+        float rank
+) {
+}
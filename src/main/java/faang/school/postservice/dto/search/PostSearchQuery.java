@@ -0,0 +1,12 @@
+package faang.school.postservice.dto.search;
+
+import java.time.LocalDateTime;
+
+public record PostSearchQuery(
+        String text,
+        Long authorId,
+        Long projectId,
+        LocalDateTime publishedFrom,
+        LocalDateTime publishedTo
+) {
+}
@@ -0,0 +1,4 @@
+package faang.school.postservice.dto.trending;
+
+public record TrendingPostDto(long postId, double score) {
+}
@@ -2,8 +2,10 @@ package faang.school.postservice.dto.user;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class UserDto {
     private Long id;
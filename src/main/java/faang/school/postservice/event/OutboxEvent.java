@@ -0,0 +1,21 @@
+package faang.school.postservice.event;
+
+import java.time.Instant;
+
+/**
+ * A post lifecycle change recorded in the same transaction as the change itself.
+ * {@code aggregateId} is the post or comment the event is about, {@code postId} the post it belongs to when known.
+ */
+public record OutboxEvent(
+        Long id,
+        OutboxEventType type,
+        long aggregateId,
+        Long actorId,
+        Long postId,
+        Instant createdAt
+) {
+
+    public static OutboxEvent of(OutboxEventType type, long aggregateId, Long actorId, Long postId) {
+        return new OutboxEvent(null, type, aggregateId, actorId, postId, null);
+    }
+}
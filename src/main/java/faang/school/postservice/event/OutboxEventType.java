@@ -0,0 +1,12 @@
+package faang.school.postservice.event;
+
+public enum OutboxEventType {
+    POST_PUBLISHED,
+    POST_DELETED,
+    POST_LIKED,
+    POST_UNLIKED,
+    COMMENT_CREATED,
+    COMMENT_DELETED,
+    COMMENT_LIKED,
+    COMMENT_UNLIKED
+}
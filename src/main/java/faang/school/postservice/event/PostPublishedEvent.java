@@ -0,0 +1,10 @@
+package faang.school.postservice.event;
+
+import java.time.LocalDateTime;
+
+public record PostPublishedEvent(
+        long postId,
+        Long authorId,
+        LocalDateTime publishedAt
+) {
+}
@@ -0,0 +1,6 @@
+package faang.school.postservice.event;
+
+public record ResourceUploadedEvent(
+        long resourceId
+) {
+}
@@ -0,0 +1,8 @@
+package faang.school.postservice.exception;
+
+public class ConflictException extends RuntimeException {
+
+    public ConflictException(String message) {
+        super(message);
+    }
+}
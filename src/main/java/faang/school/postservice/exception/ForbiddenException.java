@@ -0,0 +1,8 @@
+package faang.school.postservice.exception;
+
+public class ForbiddenException extends RuntimeException {
+
+    public ForbiddenException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package faang.school.postservice.exception;
+
+public class NotFoundException extends RuntimeException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+}
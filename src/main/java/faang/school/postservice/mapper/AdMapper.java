@@ -0,0 +1,14 @@
+package faang.school.postservice.mapper;
+
+import faang.school.postservice.dto.ad.AdDto;
+import faang.school.postservice.model.ad.Ad;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AdMapper {
+
+    @Mapping(source = "post.id", target = "postId")
+    AdDto toDto(Ad ad);
+}
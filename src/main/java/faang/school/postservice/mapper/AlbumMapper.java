@@ -0,0 +1,16 @@
+package faang.school.postservice.mapper;
+
+import faang.school.postservice.dto.album.AlbumDto;
+import faang.school.postservice.model.Album;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface AlbumMapper {
+
+    AlbumDto toDto(Album album);
+
+    List<AlbumDto> toDtoList(Iterable<Album> albums);
+}
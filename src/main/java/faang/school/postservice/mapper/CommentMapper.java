@@ -0,0 +1,26 @@
+package faang.school.postservice.mapper;
+
+import faang.school.postservice.dto.comment.CommentDto;
+import faang.school.postservice.dto.comment.CommentView;
+import faang.school.postservice.model.Comment;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface CommentMapper {
+
+    @Mapping(source = "post.id", target = "postId")
+    CommentDto toDto(Comment comment);
+
+    CommentDto toDto(CommentView comment);
+
+    List<CommentDto> toDtoList(List<CommentView> comments);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "post", ignore = true)
+    @Mapping(target = "likes", ignore = true)
+    Comment toEntity(CommentDto commentDto);
+}
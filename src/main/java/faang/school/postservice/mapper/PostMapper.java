@@ -0,0 +1,19 @@
+package faang.school.postservice.mapper;
+
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.post.PostView;
+import faang.school.postservice.model.Post;
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring", unmappedTargetPolicy = ReportingPolicy.IGNORE)
+public interface PostMapper {
+
+    PostDto toDto(Post post);
+
+    PostDto toDto(PostView post);
+
+    List<PostDto> toDtoList(List<PostView> posts);
+}
@@ -0,0 +1,8 @@
+package faang.school.postservice.model;
+
+public enum ResourceStatus {
+    UPLOADING,
+    PROCESSING,
+    READY,
+    FAILED
+}
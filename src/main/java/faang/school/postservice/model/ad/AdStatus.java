@@ -0,0 +1,7 @@
+package faang.school.postservice.model.ad;
+
+public enum AdStatus {
+    PENDING,
+    ACTIVE,
+    FAILED
+}
@@ -0,0 +1,95 @@
+package faang.school.postservice.repository;
+
+import faang.school.postservice.dto.post.PostView;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Album membership as post_album rows. New posts get positions reserved from {@code album.last_position}, so adding
+ * to an album locks only the album row and never reads the existing membership.
+ */
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class AlbumPostRepository {
+
+    private static final String ADD_POSTS = """
+            WITH candidates AS (
+                SELECT DISTINCT ON (p.id) p.id, u.ord
+                FROM unnest(?::bigint[]) WITH ORDINALITY AS u(post_id, ord)
+                JOIN post p ON p.id = u.post_id
+                WHERE NOT EXISTS (SELECT 1 FROM post_album pa WHERE pa.album_id = ? AND pa.post_id = p.id)
+                ORDER BY p.id, u.ord
+            ), numbered AS (
+                SELECT id, row_number() OVER (ORDER BY ord) AS n FROM candidates
+            ), reserved AS (
+                UPDATE album SET last_position = last_position + (SELECT count(*) FROM numbered)
+                WHERE id = ?
+                RETURNING last_position - (SELECT count(*) FROM numbered) AS base
+            )
+            INSERT INTO post_album (post_id, album_id, position)
+            SELECT n.id, ?, r.base + n.n FROM numbered n CROSS JOIN reserved r
+            ON CONFLICT (album_id, post_id) DO NOTHING
+            """;
+
+    private static final String FIND_PAGE = """
+            SELECT pa.position, p.id, p.content, p.author_id, p.project_id, p.published, p.published_at,
+                   p.scheduled_at, p.created_at, p.updated_at
+            FROM post_album pa JOIN post p ON p.id = pa.post_id
+            WHERE pa.album_id = ? AND pa.position > ? AND p.deleted = false AND p.published = true
+            ORDER BY pa.position
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public int addPosts(long albumId, List<Long> postIds) {
+        return jdbcTemplate.update(ADD_POSTS, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", postIds.toArray()));
+            ps.setLong(2, albumId);
+            ps.setLong(3, albumId);
+            ps.setLong(4, albumId);
+        });
+    }
+
+    public boolean removePost(long albumId, long postId) {
+        return jdbcTemplate.update("DELETE FROM post_album WHERE album_id = ? AND post_id = ?", albumId, postId) > 0;
+    }
+
+    public boolean contains(long albumId, long postId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM post_album WHERE album_id = ? AND post_id = ?)", Boolean.class, albumId, postId));
+    }
+
+    @Transactional(readOnly = true)
+    public List<AlbumPostView> findPage(long albumId, long afterPosition, int limit) {
+        return jdbcTemplate.query(FIND_PAGE, (rs, rowNum) -> new AlbumPostView(rs.getLong("position"), new PostView(
+                rs.getLong("id"),
+                rs.getString("content"),
+                rs.getObject("author_id", Long.class),
+                rs.getObject("project_id", Long.class),
+                rs.getBoolean("published"),
+                getDateTime(rs, "published_at"),
+                getDateTime(rs, "scheduled_at"),
+                getDateTime(rs, "created_at"),
+                getDateTime(rs, "updated_at")
+        )), albumId, afterPosition, limit);
+    }
+
+    private static LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    public record AlbumPostView(long position, PostView post) {
+    }
+}
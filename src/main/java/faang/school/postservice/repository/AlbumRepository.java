@@ -5,8 +5,9 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.List;
 import java.util.stream.Stream;
 
 @Repository
@@ -16,22 +17,18 @@ public interface AlbumRepository extends CrudRepository<Album, Long> {
 
     Stream<Album> findByAuthorId(long authorId);
 
-    @Query("SELECT a FROM Album a LEFT JOIN FETCH a.posts WHERE a.id = :id")
-    Optional<Album> findByIdWithPosts(long id);
-
-    @Query(nativeQuery = true, value = "INSERT INTO favorite_albums (album_id, user_id) VALUES (:albumId, :userId)")
+    @Query(nativeQuery = true, value = """
+            INSERT INTO favorite_albums (album_id, user_id) VALUES (:albumId, :userId)
+            ON CONFLICT (user_id, album_id) DO NOTHING
+            """)
     @Modifying
-    void addAlbumToFavorites(long albumId, long userId);
+    int addAlbumToFavorites(long albumId, long userId);
 
     @Query(nativeQuery = true, value = "DELETE FROM favorite_albums WHERE album_id = :albumId AND user_id = :userId")
     @Modifying
-    void deleteAlbumFromFavorites(long albumId, long userId);
+    int deleteAlbumFromFavorites(long albumId, long userId);
 
-    @Query(nativeQuery = true, value = """
-            SELECT * FROM album
-            WHERE id IN (
-                SELECT album_id FROM favorite_albums WHERE user_id = :userId
-            )
-            """)
-    Stream<Album> findFavoriteAlbumsByUserId(long userId);
+    @Transactional(readOnly = true)
+    @Query(nativeQuery = true, value = "SELECT album_id FROM favorite_albums WHERE user_id = :userId")
+    List<Long> findFavoriteAlbumIds(long userId);
 }
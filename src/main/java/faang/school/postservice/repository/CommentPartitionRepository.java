@@ -0,0 +1,110 @@
+package faang.school.postservice.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Manages the monthly partitions of the comment table. Table names are always derived from a {@link YearMonth},
+ * so the statements that have to interpolate them never see user input.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CommentPartitionRepository {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String FIND_MONTHLY_TABLES = """
+            SELECT c.relname, i.inhrelid IS NOT NULL AS attached
+            FROM pg_class c
+            LEFT JOIN pg_inherits i ON i.inhrelid = c.oid
+            WHERE c.relkind = 'r'
+              AND c.relnamespace = current_schema()::regnamespace
+              AND c.relname ~ '^comment_[0-9]{4}_[0-9]{2}$'
+            ORDER BY c.relname
+            """;
+
+    private static final String COPY_COMMENTS = """
+            COPY (SELECT id, content, author_id, post_id, created_at, updated_at FROM %s ORDER BY id)
+            TO STDOUT WITH (FORMAT csv, HEADER)
+            """;
+
+    private static final String COPY_COMMENT_LIKES = """
+            COPY (SELECT l.id, l.comment_id, l.user_id, l.created_at FROM likes l JOIN %s c ON c.id = l.comment_id ORDER BY l.id)
+            TO STDOUT WITH (FORMAT csv, HEADER)
+            """;
+
+    private static final String DELETE_COMMENT_LIKES = """
+            DELETE FROM likes WHERE (id, user_id) IN (
+                SELECT l.id, l.user_id FROM likes l JOIN %s c ON c.id = l.comment_id LIMIT ?
+            )
+            """;
+
+    private static final String DELETE_COMMENT_COUNTERS = """
+            DELETE FROM comment_counter cc USING %s c WHERE cc.comment_id = c.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public String createPartition(YearMonth month) {
+        return jdbcTemplate.queryForObject("SELECT create_monthly_partition('comment', 'comment', ?)",
+                String.class, Date.valueOf(month.atDay(1)));
+    }
+
+    public List<MonthlyPartition> findMonthlyPartitions() {
+        return jdbcTemplate.query(FIND_MONTHLY_TABLES, (rs, rowNum) -> new MonthlyPartition(
+                YearMonth.parse(rs.getString("relname").substring("comment_".length()), SUFFIX),
+                rs.getBoolean("attached")));
+    }
+
+    public void detach(YearMonth month) {
+        jdbcTemplate.execute("ALTER TABLE comment DETACH PARTITION " + tableName(month));
+    }
+
+    public long copyComments(YearMonth month, OutputStream out) {
+        return copyOut(COPY_COMMENTS.formatted(tableName(month)), out);
+    }
+
+    public long copyCommentLikes(YearMonth month, OutputStream out) {
+        return copyOut(COPY_COMMENT_LIKES.formatted(tableName(month)), out);
+    }
+
+    public int deleteCommentLikes(YearMonth month, int limit) {
+        return jdbcTemplate.update(DELETE_COMMENT_LIKES.formatted(tableName(month)), limit);
+    }
+
+    public int deleteCommentCounters(YearMonth month) {
+        return jdbcTemplate.update(DELETE_COMMENT_COUNTERS.formatted(tableName(month)));
+    }
+
+    public void drop(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE " + tableName(month));
+    }
+
+    public static String tableName(YearMonth month) {
+        return "comment_" + month.format(SUFFIX);
+    }
+
+    private long copyOut(String sql, OutputStream out) {
+        return jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(sql, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    public record MonthlyPartition(YearMonth month, boolean attached) {
+    }
+}
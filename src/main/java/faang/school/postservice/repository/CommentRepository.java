@@ -1,10 +1,16 @@
 package faang.school.postservice.repository;
 
+import faang.school.postservice.dto.comment.CommentPost;
+import faang.school.postservice.dto.comment.CommentView;
 import faang.school.postservice.model.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,4 +18,33 @@ public interface CommentRepository extends CrudRepository<Comment, Long> {
 
     @Query("SELECT c FROM Comment c WHERE c.post.id = :postId")
     List<Comment> findAllByPostId(long postId);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new faang.school.postservice.dto.comment.CommentView(c.id, c.content, c.authorId, c.post.id, c.createdAt, c.updatedAt)
+            FROM Comment c
+            WHERE c.post.id = :postId AND c.post.published = true AND c.post.deleted = false
+            ORDER BY c.createdAt, c.id
+            """)
+    List<CommentView> findPageByPostId(long postId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new faang.school.postservice.dto.comment.CommentView(c.id, c.content, c.authorId, c.post.id, c.createdAt, c.updatedAt)
+            FROM Comment c
+            WHERE c.post.id = :postId AND c.post.published = true AND c.post.deleted = false
+              AND c.createdAt >= :createdAt AND (c.createdAt > :createdAt OR c.id > :id)
+            ORDER BY c.createdAt, c.id
+            """)
+    List<CommentView> findPageByPostIdAfter(long postId, LocalDateTime createdAt, long id, Pageable pageable);
+
+    @Query("SELECT count(c) > 0 FROM Comment c WHERE c.id = :id AND c.post.published = true AND c.post.deleted = false")
+    boolean existsOnPublishedPost(long id);
+
+    @Query("""
+            SELECT new faang.school.postservice.dto.comment.CommentPost(c.id, c.post.id)
+            FROM Comment c
+            WHERE c.id IN :ids AND c.post.published = true AND c.post.deleted = false
+            """)
+    List<CommentPost> findPublishedPosts(Collection<Long> ids);
 }
@@ -0,0 +1,94 @@
+package faang.school.postservice.repository;
+
+import faang.school.postservice.dto.counter.CommentCountersDto;
+import faang.school.postservice.dto.counter.PostCountersDto;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class CounterRepository {
+
+    private static final String ADD_POST_LIKES = """
+            INSERT INTO post_counter (post_id, like_count)
+            SELECT d.id, d.delta FROM unnest(?::bigint[], ?::bigint[]) AS d(id, delta)
+            WHERE EXISTS (SELECT 1 FROM post p WHERE p.id = d.id)
+            ORDER BY d.id
+            ON CONFLICT (post_id) DO UPDATE
+            SET like_count = post_counter.like_count + EXCLUDED.like_count, updated_at = now()
+            """;
+
+    private static final String ADD_POST_COMMENTS = """
+            INSERT INTO post_counter (post_id, comment_count)
+            SELECT d.id, d.delta FROM unnest(?::bigint[], ?::bigint[]) AS d(id, delta)
+            WHERE EXISTS (SELECT 1 FROM post p WHERE p.id = d.id)
+            ORDER BY d.id
+            ON CONFLICT (post_id) DO UPDATE
+            SET comment_count = post_counter.comment_count + EXCLUDED.comment_count, updated_at = now()
+            """;
+
+    private static final String ADD_COMMENT_LIKES = """
+            INSERT INTO comment_counter (comment_id, like_count)
+            SELECT d.id, d.delta FROM unnest(?::bigint[], ?::bigint[]) AS d(id, delta)
+            WHERE EXISTS (SELECT 1 FROM comment c WHERE c.id = d.id)
+            ORDER BY d.id
+            ON CONFLICT (comment_id) DO UPDATE
+            SET like_count = comment_counter.like_count + EXCLUDED.like_count, updated_at = now()
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void addPostLikes(Map<Long, Long> deltas) {
+        addAll(ADD_POST_LIKES, deltas);
+    }
+
+    @Transactional
+    public void addPostComments(Map<Long, Long> deltas) {
+        addAll(ADD_POST_COMMENTS, deltas);
+    }
+
+    @Transactional
+    public void addCommentLikes(Map<Long, Long> deltas) {
+        addAll(ADD_COMMENT_LIKES, deltas);
+    }
+
+    public void deleteCommentCounter(long commentId) {
+        jdbcTemplate.update("DELETE FROM comment_counter WHERE comment_id = :commentId", Map.of("commentId", commentId));
+    }
+
+    public List<PostCountersDto> findPostCounters(Collection<Long> postIds) {
+        return jdbcTemplate.query(
+                "SELECT post_id, like_count, comment_count FROM post_counter WHERE post_id IN (:ids)",
+                Map.of("ids", postIds),
+                (rs, rowNum) -> new PostCountersDto(rs.getLong("post_id"), rs.getLong("like_count"), rs.getLong("comment_count")));
+    }
+
+    public List<CommentCountersDto> findCommentCounters(Collection<Long> commentIds) {
+        return jdbcTemplate.query(
+                "SELECT comment_id, like_count FROM comment_counter WHERE comment_id IN (:ids)",
+                Map.of("ids", commentIds),
+                (rs, rowNum) -> new CommentCountersDto(rs.getLong("comment_id"), rs.getLong("like_count")));
+    }
+
+    /**
+     * Applies all deltas in one statement; deltas of posts or comments that no longer exist are dropped.
+     */
+    private void addAll(String sql, Map<Long, Long> deltas) {
+        Long[] ids = deltas.keySet().toArray(Long[]::new);
+        Long[] values = Arrays.stream(ids).map(deltas::get).toArray(Long[]::new);
+        jdbcTemplate.getJdbcTemplate().update(sql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", values));
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package faang.school.postservice.repository;
+
+import faang.school.postservice.dto.export.CommentExportRow;
+import faang.school.postservice.dto.export.LikeExportRow;
+import faang.school.postservice.dto.export.PostExportRow;
+import faang.school.postservice.dto.export.ResourceExportRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * Streams an author's data through server-side cursors. Postgres only honours the fetch size inside a
+ * transaction, so every method requires one and the returned streams must be closed before it ends.
+ */
+@Repository
+public class ExportRepository {
+
+    private static final String POSTS = """
+            SELECT id, content, project_id, published, published_at, scheduled_at, created_at, updated_at
+            FROM post
+            WHERE author_id = ? AND deleted = false
+            ORDER BY id
+            """;
+
+    private static final String COMMENTS = """
+            SELECT c.post_id, c.id, c.content, c.author_id, c.created_at, c.updated_at
+            FROM comment c JOIN post p ON p.id = c.post_id
+            WHERE p.author_id = ? AND p.deleted = false
+            ORDER BY c.post_id, c.id
+            """;
+
+    private static final String LIKES = """
+            SELECT coalesce(l.post_id, c.post_id) AS owner_post_id, l.id, l.comment_id, l.user_id, l.created_at
+            FROM likes l
+            LEFT JOIN comment c ON c.id = l.comment_id
+            JOIN post p ON p.id = coalesce(l.post_id, c.post_id)
+            WHERE p.author_id = ? AND p.deleted = false
+            ORDER BY owner_post_id, l.id
+            """;
+
+    private static final String RESOURCES = """
+            SELECT r.post_id, r.id, r.name, r.key, r.type, r.size, r.created_at
+            FROM post_resource r JOIN post p ON p.id = r.post_id
+            WHERE p.author_id = ? AND p.deleted = false
+            ORDER BY r.post_id, r.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportRepository(DataSource dataSource, @Value("${post.export.fetch-size}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public Stream<PostExportRow> streamPosts(long authorId) {
+        return jdbcTemplate.queryForStream(POSTS, (rs, rowNum) -> new PostExportRow(
+                rs.getLong("id"),
+                rs.getString("content"),
+                rs.getObject("project_id", Long.class),
+                rs.getBoolean("published"),
+                getDateTime(rs, "published_at"),
+                getDateTime(rs, "scheduled_at"),
+                getDateTime(rs, "created_at"),
+                getDateTime(rs, "updated_at")
+        ), authorId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public Stream<CommentExportRow> streamComments(long authorId) {
+        return jdbcTemplate.queryForStream(COMMENTS, (rs, rowNum) -> new CommentExportRow(
+                rs.getLong("post_id"),
+                rs.getLong("id"),
+                rs.getString("content"),
+                rs.getLong("author_id"),
+                getDateTime(rs, "created_at"),
+                getDateTime(rs, "updated_at")
+        ), authorId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public Stream<LikeExportRow> streamLikes(long authorId) {
+        return jdbcTemplate.queryForStream(LIKES, (rs, rowNum) -> new LikeExportRow(
+                rs.getLong("owner_post_id"),
+                rs.getLong("id"),
+                rs.getObject("comment_id", Long.class),
+                rs.getLong("user_id"),
+                getDateTime(rs, "created_at")
+        ), authorId);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY, readOnly = true)
+    public Stream<ResourceExportRow> streamResources(long authorId) {
+        return jdbcTemplate.queryForStream(RESOURCES, (rs, rowNum) -> new ResourceExportRow(
+                rs.getLong("post_id"),
+                rs.getLong("id"),
+                rs.getString("name"),
+                rs.getString("key"),
+                rs.getString("type"),
+                rs.getObject("size", Long.class),
+                getDateTime(rs, "created_at")
+        ), authorId);
+    }
+
+    private LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
@@ -1,24 +1,58 @@
 package faang.school.postservice.repository;
 
+import faang.school.postservice.dto.like.LikeView;
 import faang.school.postservice.model.Like;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface LikeRepository extends CrudRepository<Like, Long> {
 
-    void deleteByPostIdAndUserId(long postId, long userId);
-
-    void deleteByCommentIdAndUserId(long commentId, long userId);
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.comment.id = :commentId")
+    void deleteAllByCommentId(long commentId);
 
     List<Like> findByPostId(long postId);
 
     List<Like> findByCommentId(long commentId);
 
-    Optional<Like> findByPostIdAndUserId(long postId, long userId);
-
-    Optional<Like> findByCommentIdAndUserId(long commentId, long userId);
+    @Query("""
+            SELECT new faang.school.postservice.dto.like.LikeView(l.id, l.userId, l.post.id, l.comment.id, l.createdAt)
+            FROM Like l
+            WHERE l.post.id = :postId
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    List<LikeView> findPageByPostId(long postId, Pageable pageable);
+
+    @Query("""
+            SELECT new faang.school.postservice.dto.like.LikeView(l.id, l.userId, l.post.id, l.comment.id, l.createdAt)
+            FROM Like l
+            WHERE l.post.id = :postId
+              AND l.createdAt <= :createdAt AND (l.createdAt < :createdAt OR l.id < :id)
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    List<LikeView> findPageByPostIdBefore(long postId, LocalDateTime createdAt, long id, Pageable pageable);
+
+    @Query("""
+            SELECT new faang.school.postservice.dto.like.LikeView(l.id, l.userId, l.post.id, l.comment.id, l.createdAt)
+            FROM Like l
+            WHERE l.comment.id = :commentId
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    List<LikeView> findPageByCommentId(long commentId, Pageable pageable);
+
+    @Query("""
+            SELECT new faang.school.postservice.dto.like.LikeView(l.id, l.userId, l.post.id, l.comment.id, l.createdAt)
+            FROM Like l
+            WHERE l.comment.id = :commentId
+              AND l.createdAt <= :createdAt AND (l.createdAt < :createdAt OR l.id < :id)
+            ORDER BY l.createdAt DESC, l.id DESC
+            """)
+    List<LikeView> findPageByCommentIdBefore(long commentId, LocalDateTime createdAt, long id, Pageable pageable);
 }
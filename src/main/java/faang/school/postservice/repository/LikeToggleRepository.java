@@ -0,0 +1,128 @@
+package faang.school.postservice.repository;
+
+import faang.school.postservice.dto.comment.CommentPost;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
+/**
+ * Single-statement like toggles. Inserts resolve concurrent duplicates on the (target, user_id) unique
+ * constraints instead of a read-then-write, so a double click can neither fail nor create a second like. Only
+ * published, live posts and their comments can be liked.
+ */
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class LikeToggleRepository {
+
+    private static final String LIKE_POST = """
+            INSERT INTO likes (post_id, user_id)
+            SELECT id, :userId FROM post WHERE id = :postId AND published = true AND deleted = false
+            ON CONFLICT (post_id, user_id) DO NOTHING
+            RETURNING id
+            """;
+
+    private static final String UNLIKE_POST = """
+            DELETE FROM likes WHERE post_id = :postId AND user_id = :userId
+            RETURNING id
+            """;
+
+    private static final String LIKE_COMMENT = """
+            WITH target AS (
+                SELECT c.id, c.post_id FROM comment c
+                JOIN post p ON p.id = c.post_id AND p.published = true AND p.deleted = false
+                WHERE c.id = :commentId
+            ), inserted AS (
+                INSERT INTO likes (comment_id, user_id)
+                SELECT id, :userId FROM target
+                ON CONFLICT (comment_id, user_id) DO NOTHING
+                RETURNING comment_id
+            )
+            SELECT t.post_id FROM target t JOIN inserted i ON i.comment_id = t.id
+            """;
+
+    private static final String UNLIKE_COMMENT = """
+            DELETE FROM likes l USING comment c
+            WHERE l.comment_id = :commentId AND l.user_id = :userId AND c.id = l.comment_id
+            RETURNING c.post_id
+            """;
+
+    private static final String IMPORT_POST_LIKES = """
+            INSERT INTO likes (post_id, user_id)
+            SELECT id, :userId FROM post WHERE id IN (:postIds) AND published = true AND deleted = false
+            ON CONFLICT (post_id, user_id) DO NOTHING
+            RETURNING post_id
+            """;
+
+    private static final String IMPORT_COMMENT_LIKES = """
+            WITH target AS (
+                SELECT c.id, c.post_id FROM comment c
+                JOIN post p ON p.id = c.post_id AND p.published = true AND p.deleted = false
+                WHERE c.id IN (:commentIds)
+            ), inserted AS (
+                INSERT INTO likes (comment_id, user_id)
+                SELECT id, :userId FROM target
+                ON CONFLICT (comment_id, user_id) DO NOTHING
+                RETURNING comment_id
+            )
+            SELECT t.id, t.post_id FROM target t JOIN inserted i ON i.comment_id = t.id
+            """;
+
+    private static final String LIKED_POSTS = """
+            SELECT post_id FROM likes WHERE user_id = :userId AND post_id IS NOT NULL
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public boolean likePost(long postId, long userId) {
+        return !jdbcTemplate.queryForList(LIKE_POST, Map.of("postId", postId, "userId", userId), Long.class).isEmpty();
+    }
+
+    public boolean unlikePost(long postId, long userId) {
+        return !jdbcTemplate.queryForList(UNLIKE_POST, Map.of("postId", postId, "userId", userId), Long.class).isEmpty();
+    }
+
+    /**
+     * @return the post of the comment if a like was inserted, empty if it already existed or the comment is missing
+     * or not visible
+     */
+    public OptionalLong likeComment(long commentId, long userId) {
+        List<Long> postIds = jdbcTemplate.queryForList(LIKE_COMMENT,
+                Map.of("commentId", commentId, "userId", userId), Long.class);
+        return postIds.isEmpty() ? OptionalLong.empty() : OptionalLong.of(postIds.get(0));
+    }
+
+    /**
+     * @return the post of the comment if a like was deleted, empty if there was none
+     */
+    public OptionalLong unlikeComment(long commentId, long userId) {
+        List<Long> postIds = jdbcTemplate.queryForList(UNLIKE_COMMENT,
+                Map.of("commentId", commentId, "userId", userId), Long.class);
+        return postIds.isEmpty() ? OptionalLong.empty() : OptionalLong.of(postIds.get(0));
+    }
+
+    /**
+     * @return the posts that got a new like; likes the user already had are skipped
+     */
+    public List<Long> importPostLikes(long userId, Collection<Long> postIds) {
+        return jdbcTemplate.queryForList(IMPORT_POST_LIKES, Map.of("postIds", postIds, "userId", userId), Long.class);
+    }
+
+    /**
+     * @return the comments that got a new like with their posts; likes the user already had are skipped
+     */
+    public List<CommentPost> importCommentLikes(long userId, Collection<Long> commentIds) {
+        return jdbcTemplate.query(IMPORT_COMMENT_LIKES, Map.of("commentIds", commentIds, "userId", userId),
+                (rs, rowNum) -> new CommentPost(rs.getLong("id"), rs.getLong("post_id")));
+    }
+
+    public List<Long> findLikedPostIds(long userId) {
+        return jdbcTemplate.queryForList(LIKED_POSTS, Map.of("userId", userId), Long.class);
+    }
+}
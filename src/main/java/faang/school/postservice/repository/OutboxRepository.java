@@ -0,0 +1,61 @@
+package faang.school.postservice.repository;
+
+import faang.school.postservice.event.OutboxEvent;
+import faang.school.postservice.event.OutboxEventType;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class OutboxRepository {
+
+    private static final String INSERT = """
+            INSERT INTO outbox_event (event_type, aggregate_id, actor_id, post_id) VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String LOCK_BATCH = """
+            SELECT id, event_type, aggregate_id, actor_id, post_id, created_at FROM outbox_event
+            ORDER BY id
+            LIMIT ?
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void save(OutboxEvent event) {
+        saveAll(List.of(event));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveAll(List<OutboxEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT, events.stream()
+                .map(event -> new Object[]{event.type().name(), event.aggregateId(), event.actorId(), event.postId()})
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<OutboxEvent> lockBatch(int batchSize) {
+        return jdbcTemplate.query(LOCK_BATCH, (rs, rowNum) -> new OutboxEvent(
+                rs.getLong("id"),
+                OutboxEventType.valueOf(rs.getString("event_type")),
+                rs.getLong("aggregate_id"),
+                rs.getObject("actor_id", Long.class),
+                rs.getObject("post_id", Long.class),
+                rs.getTimestamp("created_at").toInstant()
+        ), batchSize);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteAll(List<Long> ids) {
+        jdbcTemplate.update("DELETE FROM outbox_event WHERE id = ANY (?)",
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", ids.toArray())));
+    }
+}
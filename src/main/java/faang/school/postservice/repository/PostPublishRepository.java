@@ -0,0 +1,57 @@
+package faang.school.postservice.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class PostPublishRepository {
+
+    private static final String PUBLISH_DUE_BATCH = """
+            WITH published AS (
+                UPDATE post SET published = true, published_at = now(), updated_at = now()
+                WHERE id IN (
+                    SELECT id FROM post
+                    WHERE published = false AND deleted = false AND scheduled_at <= now()
+                    ORDER BY scheduled_at
+                    LIMIT ?
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id, author_id, scheduled_at, published_at
+            ), outbox AS (
+                INSERT INTO outbox_event (event_type, aggregate_id, actor_id, post_id)
+                SELECT 'POST_PUBLISHED', id, author_id, id FROM published
+            )
+            SELECT id, author_id, scheduled_at, published_at FROM published
+            """;
+
+    private static final String COUNT_DUE = """
+            SELECT count(*) FROM post
+            WHERE published = false AND deleted = false AND scheduled_at <= now()
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PublishedPost> publishDueBatch(int batchSize) {
+        return jdbcTemplate.query(PUBLISH_DUE_BATCH, (rs, rowNum) -> new PublishedPost(
+                rs.getLong("id"),
+                rs.getObject("author_id", Long.class),
+                rs.getTimestamp("scheduled_at").toLocalDateTime(),
+                rs.getTimestamp("published_at").toLocalDateTime()
+        ), batchSize);
+    }
+
+    public long countDue() {
+        Long count = jdbcTemplate.queryForObject(COUNT_DUE, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public record PublishedPost(long id, Long authorId, LocalDateTime scheduledAt, LocalDateTime publishedAt) {
+    }
+}
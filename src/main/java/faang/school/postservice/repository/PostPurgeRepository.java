@@ -0,0 +1,142 @@
+package faang.school.postservice.repository;
+
+import faang.school.postservice.dto.post.PostProject;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hard deletes of soft-deleted posts. Dependent rows go first in chunks of at most {@code limit} rows, each chunk
+ * its own autocommit statement, so that the final post delete has nothing left to cascade. Likes and comments are
+ * partitioned, hence the composite keys in the chunk subqueries.
+ */
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class PostPurgeRepository {
+
+    private static final String FIND_EXPIRED = """
+            SELECT id FROM post
+            WHERE deleted = true AND deleted_at < ?
+            ORDER BY deleted_at, id
+            LIMIT ?
+            """;
+
+    private static final String COUNT_EXPIRED = "SELECT count(*) FROM post WHERE deleted = true AND deleted_at < ?";
+
+    private static final String DELETE_COMMENT_LIKES = """
+            DELETE FROM likes WHERE (id, user_id) IN (
+                SELECT l.id, l.user_id FROM likes l
+                JOIN comment c ON c.id = l.comment_id
+                WHERE c.post_id = ANY (?)
+                LIMIT ?
+            )
+            """;
+
+    private static final String DELETE_COMMENTS = """
+            WITH doomed AS (
+                SELECT id, created_at FROM comment WHERE post_id = ANY (?) LIMIT ?
+            ), counters AS (
+                DELETE FROM comment_counter WHERE comment_id IN (SELECT id FROM doomed)
+            )
+            DELETE FROM comment WHERE (id, created_at) IN (SELECT id, created_at FROM doomed)
+            """;
+
+    private static final String DELETE_POST_LIKES = """
+            DELETE FROM likes WHERE (id, user_id) IN (
+                SELECT id, user_id FROM likes WHERE post_id = ANY (?) LIMIT ?
+            )
+            RETURNING user_id
+            """;
+
+    private static final String DELETE_RESOURCES = """
+            DELETE FROM post_resource WHERE post_id = ANY (?)
+            RETURNING key, thumbnail_key
+            """;
+
+    private static final String DELETE_ADS = "DELETE FROM post_ad WHERE post_id = ANY (?)";
+
+    private static final String DELETE_POSTS = """
+            DELETE FROM post WHERE id = ANY (?) AND deleted = true
+            RETURNING id, project_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<Long> findExpired(LocalDateTime deletedBefore, int limit) {
+        return jdbcTemplate.queryForList(FIND_EXPIRED, Long.class, Timestamp.valueOf(deletedBefore), limit);
+    }
+
+    public long countExpired(LocalDateTime deletedBefore) {
+        Long count = jdbcTemplate.queryForObject(COUNT_EXPIRED, Long.class, Timestamp.valueOf(deletedBefore));
+        return count == null ? 0 : count;
+    }
+
+    public int deleteCommentLikes(List<Long> postIds, int limit) {
+        return update(DELETE_COMMENT_LIKES, postIds, limit);
+    }
+
+    public int deleteComments(List<Long> postIds, int limit) {
+        return update(DELETE_COMMENTS, postIds, limit);
+    }
+
+    /**
+     * Returns the users whose likes were deleted, one entry per like.
+     */
+    public List<Long> deletePostLikes(List<Long> postIds, int limit) {
+        return jdbcTemplate.query(DELETE_POST_LIKES, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", postIds.toArray()));
+            ps.setInt(2, limit);
+        }, (rs, rowNum) -> rs.getLong("user_id"));
+    }
+
+    /**
+     * Returns the number of deleted resource rows and the object storage keys of the resources and their thumbnails.
+     */
+    public DeletedResources deleteResources(List<Long> postIds) {
+        List<String> keys = new ArrayList<>();
+        int[] rows = new int[1];
+        jdbcTemplate.query(DELETE_RESOURCES,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", postIds.toArray())),
+                rs -> {
+                    rows[0]++;
+                    addIfPresent(keys, rs.getString("key"));
+                    addIfPresent(keys, rs.getString("thumbnail_key"));
+                });
+        return new DeletedResources(rows[0], keys);
+    }
+
+    public int deleteAds(List<Long> postIds) {
+        return update(DELETE_ADS, postIds, null);
+    }
+
+    public List<PostProject> deletePosts(List<Long> postIds) {
+        return jdbcTemplate.query(DELETE_POSTS,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("bigint", postIds.toArray())),
+                (rs, rowNum) -> new PostProject(rs.getLong("id"), rs.getObject("project_id", Long.class)));
+    }
+
+    private int update(String sql, List<Long> postIds, Integer limit) {
+        return jdbcTemplate.update(sql, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("bigint", postIds.toArray()));
+            if (limit != null) {
+                ps.setInt(2, limit);
+            }
+        });
+    }
+
+    private static void addIfPresent(List<String> keys, String key) {
+        if (key != null) {
+            keys.add(key);
+        }
+    }
+
+    public record DeletedResources(int rows, List<String> keys) {
+    }
+}
@@ -1,11 +1,18 @@
 package faang.school.postservice.repository;
 
+import faang.school.postservice.dto.post.PostProject;
+import faang.school.postservice.dto.post.PostView;
 import faang.school.postservice.model.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PostRepository extends CrudRepository<Post, Long> {
@@ -14,12 +21,82 @@ public interface PostRepository extends CrudRepository<Post, Long> {
 
     List<Post> findByProjectId(long projectId);
 
+    @Transactional(readOnly = true)
     @Query("SELECT p FROM Post p LEFT JOIN FETCH p.likes WHERE p.projectId = :projectId")
     List<Post> findByProjectIdWithLikes(long projectId);
 
+    @Transactional(readOnly = true)
     @Query("SELECT p FROM Post p LEFT JOIN FETCH p.likes WHERE p.authorId = :authorId")
     List<Post> findByAuthorIdWithLikes(long authorId);
 
-    @Query("SELECT p FROM Post p WHERE p.published = false AND p.deleted = false AND p.scheduledAt <= CURRENT_TIMESTAMP")
-    List<Post> findReadyToPublish();
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new faang.school.postservice.dto.post.PostView(p.id, p.content, p.authorId, p.projectId, p.published,
+                   p.publishedAt, p.scheduledAt, p.createdAt, p.updatedAt)
+            FROM Post p
+            WHERE p.authorId = :authorId AND p.deleted = false AND (p.published = true OR :includeDrafts = true)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostView> findPageByAuthorId(long authorId, boolean includeDrafts, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new faang.school.postservice.dto.post.PostView(p.id, p.content, p.authorId, p.projectId, p.published,
+                   p.publishedAt, p.scheduledAt, p.createdAt, p.updatedAt)
+            FROM Post p
+            WHERE p.authorId = :authorId AND p.deleted = false AND (p.published = true OR :includeDrafts = true)
+              AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostView> findPageByAuthorIdBefore(long authorId, boolean includeDrafts, LocalDateTime createdAt, long id,
+                                            Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new faang.school.postservice.dto.post.PostView(p.id, p.content, p.authorId, p.projectId, p.published,
+                   p.publishedAt, p.scheduledAt, p.createdAt, p.updatedAt)
+            FROM Post p
+            WHERE p.projectId = :projectId AND p.deleted = false AND p.published = true
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostView> findPageByProjectId(long projectId, Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @Query("""
+            SELECT new faang.school.postservice.dto.post.PostView(p.id, p.content, p.authorId, p.projectId, p.published,
+                   p.publishedAt, p.scheduledAt, p.createdAt, p.updatedAt)
+            FROM Post p
+            WHERE p.projectId = :projectId AND p.deleted = false AND p.published = true
+              AND p.createdAt <= :createdAt AND (p.createdAt < :createdAt OR p.id < :id)
+            ORDER BY p.createdAt DESC, p.id DESC
+            """)
+    List<PostView> findPageByProjectIdBefore(long projectId, LocalDateTime createdAt, long id, Pageable pageable);
+
+    @Query("""
+            SELECT new faang.school.postservice.dto.post.PostView(p.id, p.content, p.authorId, p.projectId, p.published,
+                   p.publishedAt, p.scheduledAt, p.createdAt, p.updatedAt)
+            FROM Post p
+            WHERE p.id = :id AND p.deleted = false
+            """)
+    Optional<PostView> findViewById(long id);
+
+    @Query("""
+            SELECT new faang.school.postservice.dto.post.PostView(p.id, p.content, p.authorId, p.projectId, p.published,
+                   p.publishedAt, p.scheduledAt, p.createdAt, p.updatedAt)
+            FROM Post p
+            WHERE p.id IN :ids AND p.published = true AND p.deleted = false
+            """)
+    List<PostView> findPublishedViewsByIds(Collection<Long> ids);
+
+    @Query("SELECT p FROM Post p WHERE p.id = :id AND p.published = true AND p.deleted = false")
+    Optional<Post> findPublishedById(long id);
+
+    @Query("SELECT count(p) > 0 FROM Post p WHERE p.id = :id AND p.published = true AND p.deleted = false")
+    boolean existsPublished(long id);
+
+    @Query("SELECT p.id FROM Post p WHERE p.id IN :ids AND p.published = true AND p.deleted = false")
+    List<Long> findPublishedIds(Collection<Long> ids);
+
+    @Query("SELECT new faang.school.postservice.dto.post.PostProject(p.id, p.projectId) FROM Post p WHERE p.id IN :ids")
+    List<PostProject> findProjects(Collection<Long> ids);
 }
@@ -0,0 +1,41 @@
+package faang.school.postservice.repository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class ResourcePartRepository {
+
+    /**
+     * Also touches the resource, so an upload that is still receiving parts does not look abandoned to the sweeper.
+     */
+    private static final String UPSERT = """
+            WITH touched AS (
+                UPDATE post_resource SET updated_at = current_timestamp WHERE id = ?
+            )
+            INSERT INTO post_resource_part (resource_id, part_number, etag, size) VALUES (?, ?, ?, ?)
+            ON CONFLICT (resource_id, part_number) DO UPDATE SET etag = EXCLUDED.etag, size = EXCLUDED.size
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void save(long resourceId, UploadedPart part) {
+        jdbcTemplate.update(UPSERT, resourceId, resourceId, part.partNumber(), part.etag(), part.size());
+    }
+
+    public List<UploadedPart> findAll(long resourceId) {
+        return jdbcTemplate.query(
+                "SELECT part_number, etag, size FROM post_resource_part WHERE resource_id = ? ORDER BY part_number",
+                (rs, rowNum) -> new UploadedPart(rs.getInt("part_number"), rs.getString("etag"), rs.getLong("size")),
+                resourceId);
+    }
+
+    public record UploadedPart(int partNumber, String etag, long size) {
+    }
+}
@@ -1,9 +1,54 @@
 package faang.school.postservice.repository;
 
 import faang.school.postservice.model.Resource;
+import faang.school.postservice.model.ResourceStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ResourceRepository extends JpaRepository<Resource, Long> {
+
+    @Query("SELECT r FROM Resource r JOIN FETCH r.post WHERE r.id = :id")
+    Optional<Resource> findWithPostById(long id);
+
+    List<Resource> findByStatusAndUpdatedAtBefore(ResourceStatus status, LocalDateTime updatedAt, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Resource r SET r.status = faang.school.postservice.model.ResourceStatus.PROCESSING, r.uploadId = NULL,
+                   r.updatedAt = CURRENT_TIMESTAMP
+            WHERE r.id = :id AND r.status = faang.school.postservice.model.ResourceStatus.UPLOADING
+            """)
+    int markUploaded(long id);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            DELETE FROM Resource r
+            WHERE r.id = :id AND r.status = faang.school.postservice.model.ResourceStatus.UPLOADING
+              AND r.updatedAt < :updatedBefore
+            """)
+    int deleteUploadingUpdatedBefore(long id, LocalDateTime updatedBefore);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Resource r WHERE r.id = :id AND r.status = faang.school.postservice.model.ResourceStatus.UPLOADING")
+    int deleteUploading(long id);
+
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE Resource r SET r.status = :status, r.thumbnailKey = :thumbnailKey, r.updatedAt = CURRENT_TIMESTAMP
+            WHERE r.id = :id AND r.status = faang.school.postservice.model.ResourceStatus.PROCESSING
+            """)
+    void markProcessed(long id, ResourceStatus status, String thumbnailKey);
 }
@@ -0,0 +1,158 @@
+package faang.school.postservice.repository;
+
+import faang.school.postservice.dto.comment.CommentDto;
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.search.CommentSearchHitDto;
+import faang.school.postservice.dto.search.CommentSearchQuery;
+import faang.school.postservice.dto.search.PostSearchHitDto;
+import faang.school.postservice.dto.search.PostSearchQuery;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class SearchRepository {
+
+    /**
+     * Headlines are HTML, so the content is escaped before highlighting and only the configured selectors are markup.
+     */
+    private static final String ESCAPED_CONTENT = """
+            replace(replace(replace(replace(replace(page.content,
+                '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;')""";
+
+    private static final String SEARCH_POSTS = """
+            WITH q AS (SELECT websearch_to_tsquery('simple', :text) AS query)
+            SELECT page.*, ts_headline('simple', %s, q.query, :headlineOptions) AS headline
+            FROM (
+                SELECT p.id, p.content, p.author_id, p.project_id, p.published_at, p.created_at, p.updated_at,
+                       ts_rank(p.content_tsv, q.query) AS rank
+                FROM post p, q
+                WHERE p.content_tsv @@ q.query AND p.published = true AND p.deleted = false
+                %s
+                ORDER BY rank DESC, p.id DESC
+                LIMIT :limit
+            ) page, q
+            ORDER BY page.rank DESC, page.id DESC
+            """;
+
+    private static final String SEARCH_COMMENTS = """
+            WITH q AS (SELECT websearch_to_tsquery('simple', :text) AS query)
+            SELECT page.*, ts_headline('simple', %s, q.query, :headlineOptions) AS headline
+            FROM (
+                SELECT c.id, c.content, c.author_id, c.post_id, c.created_at, c.updated_at,
+                       ts_rank(c.content_tsv, q.query) AS rank
+                FROM comment c
+                JOIN post p ON p.id = c.post_id AND p.published = true AND p.deleted = false
+                CROSS JOIN q
+                WHERE c.content_tsv @@ q.query
+                %s
+                ORDER BY rank DESC, c.id DESC
+                LIMIT :limit
+            ) page, q
+            ORDER BY page.rank DESC, page.id DESC
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<PostSearchHitDto> searchPosts(PostSearchQuery query, Cursor cursor, int limit, String headlineOptions) {
+        MapSqlParameterSource params = baseParams(query.text(), limit, headlineOptions);
+        StringBuilder filters = new StringBuilder();
+        if (query.authorId() != null) {
+            filters.append(" AND p.author_id = :authorId");
+            params.addValue("authorId", query.authorId());
+        }
+        if (query.projectId() != null) {
+            filters.append(" AND p.project_id = :projectId");
+            params.addValue("projectId", query.projectId());
+        }
+        if (query.publishedFrom() != null) {
+            filters.append(" AND p.published_at >= :publishedFrom");
+            params.addValue("publishedFrom", query.publishedFrom());
+        }
+        if (query.publishedTo() != null) {
+            filters.append(" AND p.published_at < :publishedTo");
+            params.addValue("publishedTo", query.publishedTo());
+        }
+        if (cursor != null) {
+            filters.append(" AND (ts_rank(p.content_tsv, q.query), p.id) < (CAST(:rank AS real), :id)");
+            addCursor(params, cursor);
+        }
+        String sql = SEARCH_POSTS.formatted(ESCAPED_CONTENT, filters);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new PostSearchHitDto(
+                PostDto.builder()
+                        .id(rs.getLong("id"))
+                        .content(rs.getString("content"))
+                        .authorId(getLong(rs, "author_id"))
+                        .projectId(getLong(rs, "project_id"))
+                        .published(true)
+                        .publishedAt(getDateTime(rs, "published_at"))
+                        .createdAt(getDateTime(rs, "created_at"))
+                        .updatedAt(getDateTime(rs, "updated_at"))
+                        .build(),
+                rs.getString("headline"),
+                rs.getFloat("rank")));
+    }
+
+    public List<CommentSearchHitDto> searchComments(CommentSearchQuery query, Cursor cursor, int limit,
+                                                    String headlineOptions) {
+        MapSqlParameterSource params = baseParams(query.text(), limit, headlineOptions);
+        StringBuilder filters = new StringBuilder();
+        if (query.postId() != null) {
+            filters.append(" AND c.post_id = :postId");
+            params.addValue("postId", query.postId());
+        }
+        if (query.authorId() != null) {
+            filters.append(" AND c.author_id = :authorId");
+            params.addValue("authorId", query.authorId());
+        }
+        if (cursor != null) {
+            filters.append(" AND (ts_rank(c.content_tsv, q.query), c.id) < (CAST(:rank AS real), :id)");
+            addCursor(params, cursor);
+        }
+        String sql = SEARCH_COMMENTS.formatted(ESCAPED_CONTENT, filters);
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new CommentSearchHitDto(
+                CommentDto.builder()
+                        .id(rs.getLong("id"))
+                        .content(rs.getString("content"))
+                        .authorId(rs.getLong("author_id"))
+                        .postId(rs.getLong("post_id"))
+                        .createdAt(getDateTime(rs, "created_at"))
+                        .updatedAt(getDateTime(rs, "updated_at"))
+                        .build(),
+                rs.getString("headline"),
+                rs.getFloat("rank")));
+    }
+
+    private MapSqlParameterSource baseParams(String text, int limit, String headlineOptions) {
+        return new MapSqlParameterSource()
+                .addValue("text", text)
+                .addValue("limit", limit)
+                .addValue("headlineOptions", headlineOptions);
+    }
+
+    private void addCursor(MapSqlParameterSource params, Cursor cursor) {
+        params.addValue("rank", cursor.rank());
+        params.addValue("id", cursor.id());
+    }
+
+    private Long getLong(ResultSet rs, String column) throws SQLException {
+        long value = rs.getLong(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private LocalDateTime getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+}
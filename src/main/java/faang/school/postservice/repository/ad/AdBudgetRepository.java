@@ -0,0 +1,57 @@
+package faang.school.postservice.repository.ad;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class AdBudgetRepository {
+
+    private static final String DELETE_EXPIRED_BATCH = """
+            DELETE FROM post_ad
+            WHERE id IN (
+                SELECT id FROM post_ad
+                WHERE status = 'ACTIVE' AND (end_date < now() OR appearances_left <= 0)
+                LIMIT ?
+            )
+            RETURNING id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<AdBudget> findBudget(long adId) {
+        return jdbcTemplate.query(
+                "SELECT id, appearances_left, start_date, end_date FROM post_ad WHERE id = ? AND status = 'ACTIVE'",
+                (rs, rowNum) -> new AdBudget(
+                        rs.getLong("id"),
+                        rs.getLong("appearances_left"),
+                        rs.getTimestamp("start_date").toLocalDateTime(),
+                        rs.getTimestamp("end_date").toLocalDateTime()),
+                adId).stream().findFirst();
+    }
+
+    @Transactional
+    public void updateAppearancesLeft(Map<Long, Long> appearancesLeft) {
+        List<Object[]> args = appearancesLeft.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+        jdbcTemplate.batchUpdate("UPDATE post_ad SET appearances_left = ? WHERE id = ?", args);
+    }
+
+    public List<Long> deleteExpiredBatch(int batchSize) {
+        return jdbcTemplate.queryForList(DELETE_EXPIRED_BATCH, Long.class, batchSize);
+    }
+
+    public record AdBudget(long id, long appearancesLeft, LocalDateTime startDate, LocalDateTime endDate) {
+    }
+}
@@ -0,0 +1,89 @@
+package faang.school.postservice.repository.ad;
+
+import faang.school.postservice.dto.payment.Currency;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Payment state of pending ad purchases. A claim moves {@code next_attempt_at} past the claim timeout instead of
+ * holding row locks during the remote call, so a purchase whose worker died is simply claimed again later.
+ */
+@Repository
+@Timed(value = "jdbc.repository.invocations", histogram = true)
+@RequiredArgsConstructor
+public class AdPaymentRepository {
+
+    private static final String CLAIM = """
+            UPDATE post_ad
+            SET payment_attempts = payment_attempts + 1,
+                next_attempt_at = now() + make_interval(secs => ?),
+                updated_at = now()
+            WHERE id IN (
+                SELECT id FROM post_ad
+                WHERE status = 'PENDING' AND next_attempt_at <= now()
+                ORDER BY next_attempt_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+            )
+            RETURNING id, amount, currency, payment_attempts
+            """;
+
+    private static final String ACTIVATE = """
+            UPDATE post_ad
+            SET status = 'ACTIVE',
+                start_date = now(),
+                end_date = now() + make_interval(days => duration_days),
+                next_attempt_at = NULL,
+                failure_reason = NULL,
+                updated_at = now()
+            WHERE id = ? AND status = 'PENDING'
+            """;
+
+    private static final String RETRY = """
+            UPDATE post_ad
+            SET next_attempt_at = now() + make_interval(secs => ?), failure_reason = ?, updated_at = now()
+            WHERE id = ? AND status = 'PENDING'
+            """;
+
+    private static final String FAIL = """
+            UPDATE post_ad
+            SET status = 'FAILED', next_attempt_at = NULL, failure_reason = ?, updated_at = now()
+            WHERE id = ? AND status = 'PENDING'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<PendingPayment> claim(int limit, Duration claimTimeout) {
+        return jdbcTemplate.query(CLAIM, (rs, rowNum) -> new PendingPayment(
+                rs.getLong("id"),
+                rs.getBigDecimal("amount"),
+                Currency.valueOf(rs.getString("currency")),
+                rs.getInt("payment_attempts")
+        ), claimTimeout.toMillis() / 1000.0, limit);
+    }
+
+    public boolean activate(long adId) {
+        return jdbcTemplate.update(ACTIVATE, adId) > 0;
+    }
+
+    public void retryAfter(long adId, Duration delay, String reason) {
+        jdbcTemplate.update(RETRY, delay.toMillis() / 1000.0, truncate(reason), adId);
+    }
+
+    public void fail(long adId, String reason) {
+        jdbcTemplate.update(FAIL, truncate(reason), adId);
+    }
+
+    private String truncate(String reason) {
+        return reason == null || reason.length() <= 255 ? reason : reason.substring(0, 255);
+    }
+
+    public record PendingPayment(long adId, BigDecimal amount, Currency currency, int attempt) {
+    }
+}
@@ -1,15 +1,15 @@
 package faang.school.postservice.repository.ad;
 
 import faang.school.postservice.model.ad.Ad;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.CrudRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AdRepository extends CrudRepository<Ad, Long> {
+public interface AdRepository extends JpaRepository<Ad, Long> {
 
     @Query("SELECT a FROM Ad a WHERE a.post.id = ?1")
     Optional<Ad> findByPostId(long postId);
@@ -0,0 +1,227 @@
+package faang.school.postservice.service.ad;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import faang.school.postservice.repository.ad.AdBudgetRepository;
+import faang.school.postservice.repository.ad.AdBudgetRepository.AdBudget;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Serves ad impressions from node-local leases taken out of a Redis budget. Units handed to a lease are tracked
+ * as outstanding until the node reports them served or returns them, so the remaining budget written back to
+ * the database is the Redis remainder plus everything still leased, and a fully leased ad never looks spent.
+ */
+@Slf4j
+@Service
+public class AdImpressionService {
+
+    private static final String BUDGET_KEY = "ad:budget:";
+    private static final String OUTSTANDING_KEY = "ad:outstanding:";
+    private static final RedisScript<Long> RESERVE_SCRIPT = RedisScript.of("""
+            local left = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local granted = math.min(left, tonumber(ARGV[1]))
+            if granted > 0 then
+                redis.call('DECRBY', KEYS[1], granted)
+                redis.call('INCRBY', KEYS[2], granted)
+                local ttl = redis.call('PTTL', KEYS[1])
+                if ttl > 0 then
+                    redis.call('PEXPIRE', KEYS[2], ttl)
+                end
+            end
+            return granted
+            """, Long.class);
+    private static final RedisScript<Long> SETTLE_SCRIPT = RedisScript.of("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return -1
+            end
+            local unused = tonumber(ARGV[1])
+            local left = redis.call('INCRBY', KEYS[1], unused)
+            local outstanding = 0
+            if redis.call('EXISTS', KEYS[2]) == 1 then
+                outstanding = redis.call('DECRBY', KEYS[2], unused + tonumber(ARGV[2]))
+            end
+            return left + math.max(outstanding, 0)
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final AdBudgetRepository adBudgetRepository;
+    private final Map<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final Cache<Long, Boolean> unknownAds;
+
+    @Value("${ad.impressions.lease-size}")
+    private long leaseSize;
+
+    public AdImpressionService(StringRedisTemplate redisTemplate,
+                               AdBudgetRepository adBudgetRepository,
+                               @Value("${ad.impressions.unknown-ttl-ms}") long unknownTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.adBudgetRepository = adBudgetRepository;
+        this.unknownAds = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofMillis(unknownTtlMs))
+                .build();
+    }
+
+    public boolean tryServe(long adId) {
+        Lease lease = findLease(adId);
+        if (lease == null || lease.isClosed(LocalDateTime.now())) {
+            return false;
+        }
+        while (true) {
+            long left = lease.remaining.get();
+            if (left > 0) {
+                if (lease.remaining.compareAndSet(left, left - 1)) {
+                    lease.served.incrementAndGet();
+                    return true;
+                }
+                continue;
+            }
+            if (!refill(lease)) {
+                return false;
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${ad.impressions.reconcile-interval-ms}")
+    public void reconcile() {
+        settle(false);
+    }
+
+    @PreDestroy
+    public void releaseAll() {
+        settle(true);
+        leases.clear();
+    }
+
+    public void forget(Collection<Long> adIds) {
+        if (adIds.isEmpty()) {
+            return;
+        }
+        adIds.forEach(leases::remove);
+        redisTemplate.delete(adIds.stream()
+                .flatMap(adId -> Stream.of(budgetKey(adId), outstandingKey(adId)))
+                .toList());
+    }
+
+    /**
+     * Reports served impressions, returns the unused units of closed leases and writes the unserved budget of
+     * every leased ad back to the database.
+     */
+    private void settle(boolean closeAll) {
+        if (leases.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, Long> appearancesLeft = new HashMap<>();
+        leases.values().removeIf(lease -> {
+            boolean close = closeAll || lease.isClosed(now);
+            long unused = close ? lease.remaining.getAndSet(0) : 0;
+            long served = lease.served.getAndSet(0);
+            Long left = redisTemplate.execute(SETTLE_SCRIPT, List.of(budgetKey(lease.adId), outstandingKey(lease.adId)),
+                    String.valueOf(unused), String.valueOf(served));
+            if (left != null && left >= 0) {
+                appearancesLeft.put(lease.adId, left);
+            }
+            return close;
+        });
+        if (!appearancesLeft.isEmpty()) {
+            adBudgetRepository.updateAppearancesLeft(appearancesLeft);
+        }
+    }
+
+    /**
+     * Opens the lease outside the map's bin lock, so the database lookup never blocks other ads; ads without a
+     * budget are remembered for a while instead of being looked up on every impression.
+     */
+    private Lease findLease(long adId) {
+        Lease lease = leases.get(adId);
+        if (lease != null || unknownAds.getIfPresent(adId) != null) {
+            return lease;
+        }
+        lease = openLease(adId);
+        if (lease == null) {
+            unknownAds.put(adId, Boolean.TRUE);
+            return null;
+        }
+        Lease existing = leases.putIfAbsent(adId, lease);
+        return existing == null ? lease : existing;
+    }
+
+    private Lease openLease(long adId) {
+        return adBudgetRepository.findBudget(adId)
+                .map(budget -> {
+                    initBudget(budget);
+                    return new Lease(adId, budget.startDate(), budget.endDate());
+                })
+                .orElse(null);
+    }
+
+    private void initBudget(AdBudget budget) {
+        Duration ttl = Duration.between(LocalDateTime.now(), budget.endDate());
+        if (!ttl.isNegative() && !ttl.isZero()) {
+            redisTemplate.opsForValue().setIfAbsent(budgetKey(budget.id()), String.valueOf(budget.appearancesLeft()), ttl);
+        }
+    }
+
+    private boolean refill(Lease lease) {
+        synchronized (lease) {
+            if (lease.remaining.get() > 0) {
+                return true;
+            }
+            if (lease.exhausted) {
+                return false;
+            }
+            Long granted = redisTemplate.execute(RESERVE_SCRIPT,
+                    List.of(budgetKey(lease.adId), outstandingKey(lease.adId)), String.valueOf(leaseSize));
+            if (granted == null || granted == 0) {
+                lease.exhausted = true;
+                return false;
+            }
+            lease.remaining.addAndGet(granted);
+            return true;
+        }
+    }
+
+    private String budgetKey(long adId) {
+        return BUDGET_KEY + adId;
+    }
+
+    private String outstandingKey(long adId) {
+        return OUTSTANDING_KEY + adId;
+    }
+
+    private static class Lease {
+        private final long adId;
+        private final LocalDateTime startDate;
+        private final LocalDateTime endDate;
+        private final AtomicLong remaining = new AtomicLong();
+        private final AtomicLong served = new AtomicLong();
+        private volatile boolean exhausted;
+
+        private Lease(long adId, LocalDateTime startDate, LocalDateTime endDate) {
+            this.adId = adId;
+            this.startDate = startDate;
+            this.endDate = endDate;
+        }
+
+        private boolean isClosed(LocalDateTime now) {
+            return exhausted || now.isBefore(startDate) || !now.isBefore(endDate);
+        }
+    }
+}
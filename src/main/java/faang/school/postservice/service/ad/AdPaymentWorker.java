@@ -0,0 +1,118 @@
+package faang.school.postservice.service.ad;
+
+import faang.school.postservice.client.PaymentServiceClient;
+import faang.school.postservice.dto.payment.PaymentRequest;
+import faang.school.postservice.dto.payment.PaymentResponse;
+import faang.school.postservice.dto.payment.PaymentStatus;
+import faang.school.postservice.repository.ad.AdPaymentRepository;
+import faang.school.postservice.repository.ad.AdPaymentRepository.PendingPayment;
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Pays for pending ad purchases on a bounded pool, claiming only as many purchases as the pool can take.
+ * The ad id is sent as the payment number, which payment-service uses as the idempotency key, so a retry after
+ * a timeout cannot charge twice. Client errors fail the purchase; anything else is retried with jittered
+ * exponential backoff until the attempts run out.
+ */
+@Slf4j
+@Component
+public class AdPaymentWorker {
+
+    private final AdPaymentRepository adPaymentRepository;
+    private final PaymentServiceClient paymentServiceClient;
+    private final ThreadPoolTaskExecutor adPaymentExecutor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ad.payment.claim-timeout-ms}")
+    private long claimTimeoutMs;
+
+    @Value("${ad.payment.max-attempts}")
+    private int maxAttempts;
+
+    @Value("${ad.payment.backoff-base-ms}")
+    private long backoffBaseMs;
+
+    @Value("${ad.payment.backoff-max-ms}")
+    private long backoffMaxMs;
+
+    public AdPaymentWorker(AdPaymentRepository adPaymentRepository,
+                           PaymentServiceClient paymentServiceClient,
+                           @Qualifier("adPaymentExecutor") ThreadPoolTaskExecutor adPaymentExecutor,
+                           MeterRegistry meterRegistry) {
+        this.adPaymentRepository = adPaymentRepository;
+        this.paymentServiceClient = paymentServiceClient;
+        this.adPaymentExecutor = adPaymentExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${ad.payment.poll-interval-ms}")
+    public void poll() {
+        int capacity = freeCapacity();
+        if (capacity <= 0) {
+            return;
+        }
+        List<PendingPayment> payments = adPaymentRepository.claim(capacity, Duration.ofMillis(claimTimeoutMs));
+        payments.forEach(payment -> adPaymentExecutor.execute(() -> pay(payment)));
+    }
+
+    private void pay(PendingPayment payment) {
+        try {
+            ResponseEntity<PaymentResponse> response = paymentServiceClient.sendPayment(
+                    new PaymentRequest(payment.adId(), payment.amount(), payment.currency()));
+            PaymentResponse body = response.getBody();
+            if (body != null && body.status() == PaymentStatus.SUCCESS) {
+                adPaymentRepository.activate(payment.adId());
+                record("success");
+            } else {
+                adPaymentRepository.fail(payment.adId(), body == null ? "Empty payment response" : body.message());
+                record("declined");
+            }
+        } catch (FeignException.FeignClientException e) {
+            if (e.status() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                retryOrFail(payment, e);
+            } else {
+                adPaymentRepository.fail(payment.adId(), "Payment rejected with " + e.status());
+                record("rejected");
+            }
+        } catch (RuntimeException e) {
+            retryOrFail(payment, e);
+        }
+    }
+
+    private void retryOrFail(PendingPayment payment, RuntimeException e) {
+        if (payment.attempt() >= maxAttempts) {
+            log.warn("Payment for ad {} failed after {} attempts", payment.adId(), payment.attempt(), e);
+            adPaymentRepository.fail(payment.adId(), e.getMessage());
+            record("failed");
+            return;
+        }
+        long backoff = Math.min(backoffMaxMs, backoffBaseMs << Math.min(payment.attempt() - 1, 20));
+        long delay = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+        log.debug("Payment for ad {} failed, retrying in {} ms", payment.adId(), delay, e);
+        adPaymentRepository.retryAfter(payment.adId(), Duration.ofMillis(delay), e.getMessage());
+        record("retry");
+    }
+
+    private int freeCapacity() {
+        ThreadPoolExecutor executor = adPaymentExecutor.getThreadPoolExecutor();
+        return executor.getMaximumPoolSize() - executor.getActiveCount() + executor.getQueue().remainingCapacity();
+    }
+
+    private void record(String result) {
+        meterRegistry.counter("ad.payments", "result", result).increment();
+    }
+}
@@ -0,0 +1,88 @@
+package faang.school.postservice.service.ad;
+
+import faang.school.postservice.dto.ad.AdDto;
+import faang.school.postservice.dto.ad.AdPurchaseDto;
+import faang.school.postservice.exception.ConflictException;
+import faang.school.postservice.exception.ForbiddenException;
+import faang.school.postservice.exception.NotFoundException;
+import faang.school.postservice.mapper.AdMapper;
+import faang.school.postservice.model.Post;
+import faang.school.postservice.model.ad.Ad;
+import faang.school.postservice.model.ad.AdStatus;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.repository.ad.AdRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Records ad purchases as pending and returns at once; {@link AdPaymentWorker} pays for them in the background.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdPurchaseService {
+
+    private final AdRepository adRepository;
+    private final PostRepository postRepository;
+    private final AdMapper adMapper;
+
+    @Value("${ad.purchase.price-per-appearance}")
+    private BigDecimal pricePerAppearance;
+
+    @Value("${ad.purchase.max-duration-days}")
+    private int maxDurationDays;
+
+    @Transactional
+    public AdDto purchase(long postId, long buyerId, AdPurchaseDto request) {
+        if (request.getDurationDays() > maxDurationDays) {
+            throw new IllegalArgumentException("An ad can run for at most " + maxDurationDays + " days");
+        }
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new NotFoundException("Post " + postId + " not found"));
+        if (post.getAuthorId() == null || post.getAuthorId() != buyerId) {
+            throw new ForbiddenException("Only the author can promote post " + postId);
+        }
+        if (!post.isPublished() || post.isDeleted()) {
+            throw new ConflictException("Only published posts can be promoted");
+        }
+        Ad existing = post.getAd();
+        if (existing != null) {
+            if (existing.getStatus() != AdStatus.FAILED) {
+                throw new ConflictException("Post " + postId + " already has an ad");
+            }
+            post.setAd(null);
+            adRepository.delete(existing);
+            adRepository.flush();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Ad ad = adRepository.save(Ad.builder()
+                .post(post)
+                .buyerId(buyerId)
+                .appearancesLeft(request.getAppearances())
+                .startDate(now)
+                .endDate(now.plusDays(request.getDurationDays()))
+                .status(AdStatus.PENDING)
+                .amount(pricePerAppearance.multiply(BigDecimal.valueOf(request.getAppearances())))
+                .currency(request.getCurrency())
+                .durationDays(request.getDurationDays())
+                .nextAttemptAt(now)
+                .build());
+        post.setAd(ad);
+        return adMapper.toDto(ad);
+    }
+
+    @Transactional(readOnly = true)
+    public AdDto getAd(long adId, long userId) {
+        Ad ad = adRepository.findById(adId)
+                .orElseThrow(() -> new NotFoundException("Ad " + adId + " not found"));
+        if (ad.getBuyerId() != userId) {
+            throw new ForbiddenException("Only the buyer can view ad " + adId);
+        }
+        return adMapper.toDto(ad);
+    }
+}
@@ -0,0 +1,36 @@
+package faang.school.postservice.service.ad;
+
+import faang.school.postservice.repository.ad.AdBudgetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExpiredAdSweeper {
+
+    private final AdBudgetRepository adBudgetRepository;
+    private final AdImpressionService adImpressionService;
+
+    @Value("${ad.sweeper.batch-size}")
+    private int batchSize;
+
+    @Scheduled(cron = "${ad.sweeper.cron}")
+    public void sweep() {
+        long removed = 0;
+        List<Long> batch;
+        do {
+            batch = adBudgetRepository.deleteExpiredBatch(batchSize);
+            adImpressionService.forget(batch);
+            removed += batch.size();
+        } while (batch.size() == batchSize);
+        if (removed > 0) {
+            log.info("Removed {} expired ads", removed);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package faang.school.postservice.service.album;
+
+import faang.school.postservice.dto.album.AlbumDto;
+import faang.school.postservice.dto.bulk.BulkResultDto;
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.exception.ForbiddenException;
+import faang.school.postservice.exception.NotFoundException;
+import faang.school.postservice.mapper.AlbumMapper;
+import faang.school.postservice.mapper.PostMapper;
+import faang.school.postservice.model.Album;
+import faang.school.postservice.repository.AlbumPostRepository;
+import faang.school.postservice.repository.AlbumPostRepository.AlbumPostView;
+import faang.school.postservice.repository.AlbumRepository;
+import faang.school.postservice.service.enrichment.EnrichmentService;
+import faang.school.postservice.service.page.CursorPages;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class AlbumService {
+
+    private final AlbumRepository albumRepository;
+    private final AlbumPostRepository albumPostRepository;
+    private final FavoriteAlbumsCache favoriteAlbumsCache;
+    private final AlbumMapper albumMapper;
+    private final PostMapper postMapper;
+    private final EnrichmentService enrichmentService;
+
+    @Value("${bulk.max-size}")
+    private int maxBulkSize;
+
+    @Value("${pagination.max-page-size}")
+    private int maxPageSize;
+
+    public CursorPage<PostDto> getAlbumPosts(long albumId, String cursorToken, int size) {
+        CursorPages.limit(size, maxPageSize);
+        if (!albumRepository.existsById(albumId)) {
+            throw new NotFoundException("Album " + albumId + " not found");
+        }
+        long afterPosition = cursorToken == null ? 0 : Cursor.decode(cursorToken).position();
+        List<AlbumPostView> posts = albumPostRepository.findPage(albumId, afterPosition, size + 1);
+        return CursorPages.toPage(posts, size, post -> new Cursor(post.position(), post.post().id()),
+                page -> enrichmentService.enrichPosts(postMapper.toDtoList(page.stream().map(AlbumPostView::post).toList())));
+    }
+
+    @Transactional
+    public BulkResultDto addPosts(long albumId, long userId, List<Long> postIds) {
+        if (postIds.size() > maxBulkSize) {
+            throw new IllegalArgumentException("At most " + maxBulkSize + " posts can be added at once");
+        }
+        checkAuthor(albumId, userId);
+        return new BulkResultDto(albumPostRepository.addPosts(albumId, postIds));
+    }
+
+    @Transactional
+    public void addPost(long albumId, long userId, long postId) {
+        checkAuthor(albumId, userId);
+        if (albumPostRepository.addPosts(albumId, List.of(postId)) == 0 && !albumPostRepository.contains(albumId, postId)) {
+            throw new NotFoundException("Post " + postId + " not found");
+        }
+    }
+
+    @Transactional
+    public void removePost(long albumId, long userId, long postId) {
+        checkAuthor(albumId, userId);
+        albumPostRepository.removePost(albumId, postId);
+    }
+
+    @Transactional
+    public void addToFavorites(long albumId, long userId) {
+        if (!albumRepository.existsById(albumId)) {
+            throw new NotFoundException("Album " + albumId + " not found");
+        }
+        if (albumRepository.addAlbumToFavorites(albumId, userId) > 0) {
+            favoriteAlbumsCache.onFavorite(userId, albumId, true);
+        }
+    }
+
+    @Transactional
+    public void removeFromFavorites(long albumId, long userId) {
+        if (albumRepository.deleteAlbumFromFavorites(albumId, userId) > 0) {
+            favoriteAlbumsCache.onFavorite(userId, albumId, false);
+        }
+    }
+
+    public List<AlbumDto> getFavoriteAlbums(long userId) {
+        List<AlbumDto> albums = albumMapper.toDtoList(albumRepository.findAllById(favoriteAlbumsCache.getFavoriteAlbumIds(userId)));
+        return albums.stream().sorted(Comparator.comparing(AlbumDto::getId)).toList();
+    }
+
+    private void checkAuthor(long albumId, long userId) {
+        Album album = albumRepository.findById(albumId)
+                .orElseThrow(() -> new NotFoundException("Album " + albumId + " not found"));
+        if (album.getAuthorId() != userId) {
+            throw new ForbiddenException("Only the author can change album " + albumId);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package faang.school.postservice.service.album;
+
+import faang.school.postservice.repository.AlbumRepository;
+import faang.school.postservice.service.cache.UserIdSetCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+
+@Component
+public class FavoriteAlbumsCache {
+
+    private final UserIdSetCache favoriteAlbums;
+
+    public FavoriteAlbumsCache(StringRedisTemplate redisTemplate, AlbumRepository albumRepository,
+                               @Value("${album.favorites.ttl-hours}") long ttlHours) {
+        this.favoriteAlbums = new UserIdSetCache(redisTemplate, "user:favorite-albums:", Duration.ofHours(ttlHours),
+                albumRepository::findFavoriteAlbumIds);
+    }
+
+    public Set<Long> getFavoriteAlbumIds(long userId) {
+        return favoriteAlbums.getAll(userId);
+    }
+
+    public void onFavorite(long userId, long albumId, boolean favorite) {
+        if (favorite) {
+            favoriteAlbums.add(userId, albumId);
+        } else {
+            favoriteAlbums.remove(userId, albumId);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package faang.school.postservice.service.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCacheInvalidationListener implements MessageListener {
+
+    private final PostViewCache postViewCache;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            postViewCache.evictLocal(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed post cache invalidation message: {}", body);
+        }
+    }
+}
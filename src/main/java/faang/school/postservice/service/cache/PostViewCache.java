@@ -0,0 +1,203 @@
+package faang.school.postservice.service.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.exception.NotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.LongFunction;
+
+/**
+ * Two-level cache of post views: a short-lived local Caffeine cache in front of Redis, with a Redis lock so one
+ * instance loads a missing post while the others wait for it. Invalidations bump a per-post version and a load
+ * only stores its result if the version hasn't moved since it started, so a slow load can't bring back a post
+ * invalidated meanwhile. Missing posts are cached briefly as well.
+ */
+@Slf4j
+@Component
+public class PostViewCache {
+
+    private static final String VIEW_KEY = "post:view:";
+    private static final String VERSION_KEY = "post:view:version:";
+    private static final String LOCK_KEY = "post:view:lock:";
+    private static final String MISSING = "missing";
+    private static final RedisScript<Long> STORE_SCRIPT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> INVALIDATE_SCRIPT = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+    private static final RedisScript<Long> UNLOCK_SCRIPT = RedisScript.of("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ChannelTopic postCacheTopic;
+    private final Cache<Long, PostDto> localCache;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Duration redisTtl;
+    private final Duration missingTtl;
+    private final Duration lockTtl;
+    private final int lockWaitAttempts;
+    private final long lockWaitMs;
+
+    public PostViewCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, ChannelTopic postCacheTopic,
+                         MeterRegistry meterRegistry,
+                         @Value("${post.cache.local.max-size}") long localMaxSize,
+                         @Value("${post.cache.local.ttl-seconds}") long localTtlSeconds,
+                         @Value("${post.cache.redis.ttl-seconds}") long redisTtlSeconds,
+                         @Value("${post.cache.redis.missing-ttl-seconds}") long missingTtlSeconds,
+                         @Value("${post.cache.lock.ttl-ms}") long lockTtlMs,
+                         @Value("${post.cache.lock.wait-attempts}") int lockWaitAttempts,
+                         @Value("${post.cache.lock.wait-ms}") long lockWaitMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.postCacheTopic = postCacheTopic;
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "post.view.local");
+        this.redisHits = meterRegistry.counter("post.view.redis", "result", "hit");
+        this.redisMisses = meterRegistry.counter("post.view.redis", "result", "miss");
+        this.redisTtl = Duration.ofSeconds(redisTtlSeconds);
+        this.missingTtl = Duration.ofSeconds(missingTtlSeconds);
+        this.lockTtl = Duration.ofMillis(lockTtlMs);
+        this.lockWaitAttempts = lockWaitAttempts;
+        this.lockWaitMs = lockWaitMs;
+    }
+
+    public PostDto get(long postId, LongFunction<PostDto> loader) {
+        return localCache.get(postId, id -> getFromRedis(id, loader));
+    }
+
+    public void invalidate(long postId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcastInvalidation(postId);
+                }
+            });
+        } else {
+            broadcastInvalidation(postId);
+        }
+    }
+
+    void evictLocal(long postId) {
+        localCache.invalidate(postId);
+    }
+
+    private PostDto getFromRedis(long postId, LongFunction<PostDto> loader) {
+        PostDto cached = readRedis(postId);
+        if (cached != null) {
+            redisHits.increment();
+            return cached;
+        }
+        redisMisses.increment();
+
+        String lockKey = LOCK_KEY + postId;
+        String owner = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, owner, lockTtl))) {
+            try {
+                return loadAndStore(postId, loader);
+            } finally {
+                redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey), owner);
+            }
+        }
+        for (int attempt = 0; attempt < lockWaitAttempts; attempt++) {
+            sleep(lockWaitMs);
+            cached = readRedis(postId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return loader.apply(postId);
+    }
+
+    private PostDto loadAndStore(long postId, LongFunction<PostDto> loader) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY + postId);
+        PostDto post;
+        try {
+            post = loader.apply(postId);
+        } catch (NotFoundException e) {
+            store(postId, version, MISSING, missingTtl);
+            throw e;
+        }
+        try {
+            store(postId, version, objectMapper.writeValueAsString(post), redisTtl);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to cache post {}", postId, e);
+        }
+        return post;
+    }
+
+    private void store(long postId, String version, String value, Duration ttl) {
+        redisTemplate.execute(STORE_SCRIPT, List.of(VIEW_KEY + postId, VERSION_KEY + postId),
+                version == null ? "0" : version, value, String.valueOf(ttl.toMillis()));
+    }
+
+    /**
+     * @return the cached post, null on a miss
+     * @throws NotFoundException if the post is cached as missing
+     */
+    private PostDto readRedis(long postId) {
+        String json = redisTemplate.opsForValue().get(VIEW_KEY + postId);
+        if (json == null) {
+            return null;
+        }
+        if (MISSING.equals(json)) {
+            throw new NotFoundException("Post " + postId + " not found");
+        }
+        try {
+            return objectMapper.readValue(json, PostDto.class);
+        } catch (JsonProcessingException e) {
+            log.warn("Dropping unreadable cached post {}", postId, e);
+            return null;
+        }
+    }
+
+    private void broadcastInvalidation(long postId) {
+        localCache.invalidate(postId);
+        redisTemplate.execute(INVALIDATE_SCRIPT, List.of(VIEW_KEY + postId, VERSION_KEY + postId),
+                String.valueOf(redisTtl.toMillis()));
+        redisTemplate.convertAndSend(postCacheTopic.getTopic(), String.valueOf(postId));
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for post cache", e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package faang.school.postservice.service.cache;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * A per-user Redis set of ids. A set is only trusted while it holds the {@link #WARM} marker, so an empty set
+ * and a missing one can be told apart; a cold set is filled from the loader. Writes happen after commit and only
+ * touch sets that are already warm, leaving cold ones to be loaded from the database.
+ * <p>
+ * Every write and eviction bumps a per-user version, and a load only stores its snapshot if the version is
+ * still the one read before querying the database, so a load racing with a write can't mark a stale set warm.
+ */
+public class UserIdSetCache {
+
+    private static final String WARM = "warm";
+    private static final String VERSION_SUFFIX = ":v";
+    private static final RedisScript<Long> UPDATE_SCRIPT = RedisScript.of("""
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            if redis.call('SISMEMBER', KEYS[1], ARGV[2]) == 1 then
+                if ARGV[4] == '1' then
+                    redis.call('SADD', KEYS[1], ARGV[3])
+                else
+                    redis.call('SREM', KEYS[1], ARGV[3])
+                end
+            end
+            return 1
+            """, Long.class);
+    private static final RedisScript<Long> LOAD_SCRIPT = RedisScript.of("""
+            if (redis.call('GET', KEYS[2]) or '0') ~= ARGV[1] then
+                return 0
+            end
+            redis.call('DEL', KEYS[1])
+            for i = 3, #ARGV, 5000 do
+                redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 4999, #ARGV)))
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+    private final LongFunction<List<Long>> loader;
+
+    public UserIdSetCache(StringRedisTemplate redisTemplate, String keyPrefix, Duration ttl,
+                          LongFunction<List<Long>> loader) {
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+        this.loader = loader;
+    }
+
+    public Set<Long> findMembers(long userId, Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+        Object[] members = new Object[ids.size() + 1];
+        members[0] = WARM;
+        int i = 1;
+        for (Long id : ids) {
+            members[i++] = id.toString();
+        }
+        Map<Object, Boolean> membership = redisTemplate.opsForSet().isMember(key(userId), members);
+        Set<Long> found = new HashSet<>();
+        if (membership == null || !Boolean.TRUE.equals(membership.get(WARM))) {
+            found.addAll(load(userId));
+            found.retainAll(ids);
+            return found;
+        }
+        ids.forEach(id -> {
+            if (Boolean.TRUE.equals(membership.get(id.toString()))) {
+                found.add(id);
+            }
+        });
+        return found;
+    }
+
+    public Set<Long> getAll(long userId) {
+        Set<String> members = redisTemplate.opsForSet().members(key(userId));
+        if (members == null || !members.contains(WARM)) {
+            return new HashSet<>(load(userId));
+        }
+        return members.stream()
+                .filter(member -> !WARM.equals(member))
+                .map(Long::valueOf)
+                .collect(Collectors.toSet());
+    }
+
+    public void add(long userId, long id) {
+        afterCommit(() -> update(userId, id, true));
+    }
+
+    public void remove(long userId, long id) {
+        afterCommit(() -> update(userId, id, false));
+    }
+
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> distinct = userIds.stream().distinct().toList();
+        afterCommit(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                distinct.forEach(userId -> {
+                    String versionKey = versionKey(userId);
+                    operations.opsForValue().increment(versionKey);
+                    operations.expire(versionKey, ttl);
+                    operations.delete(key(userId));
+                });
+                return null;
+            }
+        }));
+    }
+
+    private void update(long userId, long id, boolean present) {
+        redisTemplate.execute(UPDATE_SCRIPT, List.of(key(userId), versionKey(userId)),
+                String.valueOf(ttl.toMillis()), WARM, Long.toString(id), present ? "1" : "0");
+    }
+
+    private List<Long> load(long userId) {
+        String version = redisTemplate.opsForValue().get(versionKey(userId));
+        List<Long> ids = loader.apply(userId);
+        String[] args = new String[ids.size() + 3];
+        args[0] = version == null ? "0" : version;
+        args[1] = String.valueOf(ttl.toMillis());
+        args[2] = WARM;
+        for (int i = 0; i < ids.size(); i++) {
+            args[i + 3] = ids.get(i).toString();
+        }
+        redisTemplate.execute(LOAD_SCRIPT, List.of(key(userId), versionKey(userId)), (Object[]) args);
+        return ids;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private String key(long userId) {
+        return keyPrefix + userId;
+    }
+
+    private String versionKey(long userId) {
+        return keyPrefix + userId + VERSION_SUFFIX;
+    }
+}
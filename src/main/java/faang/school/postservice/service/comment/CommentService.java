@@ -0,0 +1,135 @@
+package faang.school.postservice.service.comment;
+
+import faang.school.postservice.dto.bulk.BulkResultDto;
+import faang.school.postservice.dto.comment.CommentDto;
+import faang.school.postservice.dto.comment.CommentView;
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.event.OutboxEvent;
+import faang.school.postservice.event.OutboxEventType;
+import faang.school.postservice.exception.ForbiddenException;
+import faang.school.postservice.exception.NotFoundException;
+import faang.school.postservice.mapper.CommentMapper;
+import faang.school.postservice.model.Comment;
+import faang.school.postservice.model.Post;
+import faang.school.postservice.repository.CommentRepository;
+import faang.school.postservice.repository.CounterRepository;
+import faang.school.postservice.repository.LikeRepository;
+import faang.school.postservice.repository.OutboxRepository;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.service.counter.CounterAggregator;
+import faang.school.postservice.service.counter.CounterType;
+import faang.school.postservice.service.enrichment.EnrichmentService;
+import faang.school.postservice.service.page.CursorPages;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class CommentService {
+
+    private final CommentRepository commentRepository;
+    private final PostRepository postRepository;
+    private final CommentMapper commentMapper;
+    private final CounterAggregator counterAggregator;
+    private final EnrichmentService enrichmentService;
+    private final EntityManager entityManager;
+    private final OutboxRepository outboxRepository;
+    private final LikeRepository likeRepository;
+    private final CounterRepository counterRepository;
+
+    @Value("${pagination.max-page-size}")
+    private int maxPageSize;
+
+    @Value("${bulk.max-size}")
+    private int maxBulkSize;
+
+    @Value("${bulk.chunk-size}")
+    private int bulkChunkSize;
+
+    public CursorPage<CommentDto> getComments(long postId, String cursorToken, int size) {
+        Pageable limit = CursorPages.limit(size, maxPageSize);
+        List<CommentView> comments;
+        if (cursorToken == null) {
+            comments = commentRepository.findPageByPostId(postId, limit);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            comments = commentRepository.findPageByPostIdAfter(postId, cursor.timestamp(), cursor.id(), limit);
+        }
+        if (comments.isEmpty() && !postRepository.existsPublished(postId)) {
+            throw new NotFoundException("Post " + postId + " not found");
+        }
+        return CursorPages.toPage(comments, size, comment -> Cursor.of(comment.createdAt(), comment.id()),
+                page -> enrichmentService.enrichComments(commentMapper.toDtoList(page)));
+    }
+
+    @Transactional
+    public CommentDto createComment(long postId, long authorId, CommentDto commentDto) {
+        Post post = postRepository.findPublishedById(postId)
+                .orElseThrow(() -> new NotFoundException("Post " + postId + " not found"));
+        Comment comment = commentMapper.toEntity(commentDto);
+        comment.setAuthorId(authorId);
+        comment.setPost(post);
+        comment = commentRepository.save(comment);
+        counterAggregator.increment(CounterType.POST_COMMENTS, postId, 1);
+        outboxRepository.save(OutboxEvent.of(OutboxEventType.COMMENT_CREATED, comment.getId(), authorId, postId));
+        return commentMapper.toDto(comment);
+    }
+
+    @Transactional
+    public BulkResultDto importComments(long postId, long userId, List<CommentDto> comments) {
+        if (comments.size() > maxBulkSize) {
+            throw new IllegalArgumentException("At most " + maxBulkSize + " comments can be imported at once");
+        }
+        if (!postRepository.existsPublished(postId)) {
+            throw new NotFoundException("Post " + postId + " not found");
+        }
+        for (int from = 0; from < comments.size(); from += bulkChunkSize) {
+            List<Comment> chunk = comments.subList(from, Math.min(from + bulkChunkSize, comments.size())).stream()
+                    .map(commentDto -> toImportedEntity(postId, userId, commentDto))
+                    .toList();
+            commentRepository.saveAll(chunk);
+            outboxRepository.saveAll(chunk.stream()
+                    .map(comment -> OutboxEvent.of(OutboxEventType.COMMENT_CREATED, comment.getId(), comment.getAuthorId(), postId))
+                    .toList());
+            entityManager.flush();
+            entityManager.clear();
+        }
+        counterAggregator.increment(CounterType.POST_COMMENTS, postId, comments.size());
+        return new BulkResultDto(comments.size());
+    }
+
+    @Transactional
+    public void deleteComment(long commentId, long userId) {
+        Comment comment = commentRepository.findById(commentId)
+                .orElseThrow(() -> new NotFoundException("Comment " + commentId + " not found"));
+        if (comment.getAuthorId() != userId) {
+            throw new ForbiddenException("Only the author can delete comment " + commentId);
+        }
+        // comment is partitioned, so likes and counters no longer cascade from it through foreign keys
+        likeRepository.deleteAllByCommentId(commentId);
+        counterRepository.deleteCommentCounter(commentId);
+        commentRepository.delete(comment);
+        counterAggregator.increment(CounterType.POST_COMMENTS, comment.getPost().getId(), -1);
+        outboxRepository.save(OutboxEvent.of(OutboxEventType.COMMENT_DELETED, commentId, userId, comment.getPost().getId()));
+    }
+
+    private Comment toImportedEntity(long postId, long userId, CommentDto commentDto) {
+        if (commentDto.getContent() == null || commentDto.getContent().isBlank()) {
+            throw new IllegalArgumentException("Imported comments must have content");
+        }
+        if (commentDto.getAuthorId() != null && commentDto.getAuthorId() != userId) {
+            throw new ForbiddenException("Comments can only be imported on behalf of user " + userId);
+        }
+        Comment comment = commentMapper.toEntity(commentDto);
+        comment.setAuthorId(userId);
+        comment.setPost(entityManager.getReference(Post.class, postId));
+        return comment;
+    }
+}
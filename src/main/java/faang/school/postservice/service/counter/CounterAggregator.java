@@ -0,0 +1,112 @@
+package faang.school.postservice.service.counter;
+
+import faang.school.postservice.repository.CounterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.NonTransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterAggregator {
+
+    private final CounterRepository counterRepository;
+    private final AtomicReference<Map<CounterKey, LongAdder>> active = new AtomicReference<>(new ConcurrentHashMap<>());
+    private volatile Map<CounterKey, LongAdder> retired = new ConcurrentHashMap<>();
+
+    public void increment(CounterType type, long id, long delta) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(type, id, delta);
+                }
+            });
+        } else {
+            add(type, id, delta);
+        }
+    }
+
+    public long pending(CounterType type, long id) {
+        CounterKey key = new CounterKey(type, id);
+        return sum(active.get().get(key)) + sum(retired.get(key));
+    }
+
+    @Scheduled(fixedDelayString = "${counters.flush-interval-ms}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<CounterKey, LongAdder> swapped = active.getAndSet(new ConcurrentHashMap<>());
+        Map<CounterType, Map<Long, Long>> deltas = new EnumMap<>(CounterType.class);
+        drain(retired, deltas);
+        drain(swapped, deltas);
+        retired = swapped;
+
+        deltas.forEach(this::write);
+    }
+
+    /**
+     * Retries the whole batch on transient failures. A batch rejected by the database is split in halves until
+     * the offending delta is alone and dropped, so one bad key can't block every other counter forever.
+     */
+    private void write(CounterType type, Map<Long, Long> byId) {
+        try {
+            switch (type) {
+                case POST_LIKES -> counterRepository.addPostLikes(byId);
+                case POST_COMMENTS -> counterRepository.addPostComments(byId);
+                case COMMENT_LIKES -> counterRepository.addCommentLikes(byId);
+            }
+        } catch (NonTransientDataAccessException e) {
+            if (byId.size() == 1) {
+                log.error("Dropping {} counter delta {} rejected by the database", type, byId, e);
+                return;
+            }
+            List<Map.Entry<Long, Long>> entries = List.copyOf(byId.entrySet());
+            int middle = entries.size() / 2;
+            write(type, toMap(entries.subList(0, middle)));
+            write(type, toMap(entries.subList(middle, entries.size())));
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} {} counters, will retry", byId.size(), type, e);
+            byId.forEach((id, delta) -> add(type, id, delta));
+        }
+    }
+
+    private Map<Long, Long> toMap(List<Map.Entry<Long, Long>> entries) {
+        Map<Long, Long> map = new HashMap<>();
+        entries.forEach(entry -> map.put(entry.getKey(), entry.getValue()));
+        return map;
+    }
+
+    private void add(CounterType type, long id, long delta) {
+        active.get().computeIfAbsent(new CounterKey(type, id), key -> new LongAdder()).add(delta);
+    }
+
+    private void drain(Map<CounterKey, LongAdder> buffer, Map<CounterType, Map<Long, Long>> deltas) {
+        buffer.forEach((key, adder) -> {
+            long sum = adder.sum();
+            if (sum != 0) {
+                adder.add(-sum);
+                deltas.computeIfAbsent(key.type(), type -> new HashMap<>()).merge(key.id(), sum, Long::sum);
+            }
+        });
+    }
+
+    private long sum(LongAdder adder) {
+        return adder == null ? 0 : adder.sum();
+    }
+
+    private record CounterKey(CounterType type, long id) {
+    }
+}
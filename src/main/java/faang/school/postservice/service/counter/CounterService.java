@@ -0,0 +1,48 @@
+package faang.school.postservice.service.counter;
+
+import faang.school.postservice.dto.counter.CommentCountersDto;
+import faang.school.postservice.dto.counter.PostCountersDto;
+import faang.school.postservice.repository.CounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class CounterService {
+
+    private final CounterRepository counterRepository;
+    private final CounterAggregator counterAggregator;
+
+    public List<PostCountersDto> getPostCounters(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostCountersDto> stored = counterRepository.findPostCounters(postIds).stream()
+                .collect(Collectors.toMap(PostCountersDto::postId, Function.identity()));
+        return postIds.stream()
+                .map(postId -> {
+                    PostCountersDto counters = stored.getOrDefault(postId, new PostCountersDto(postId, 0, 0));
+                    return new PostCountersDto(postId,
+                            counters.likes() + counterAggregator.pending(CounterType.POST_LIKES, postId),
+                            counters.comments() + counterAggregator.pending(CounterType.POST_COMMENTS, postId));
+                })
+                .toList();
+    }
+
+    public List<CommentCountersDto> getCommentCounters(List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Long> stored = counterRepository.findCommentCounters(commentIds).stream()
+                .collect(Collectors.toMap(CommentCountersDto::commentId, CommentCountersDto::likes));
+        return commentIds.stream()
+                .map(commentId -> new CommentCountersDto(commentId,
+                        stored.getOrDefault(commentId, 0L) + counterAggregator.pending(CounterType.COMMENT_LIKES, commentId)))
+                .toList();
+    }
+}
@@ -0,0 +1,5 @@
+package faang.school.postservice.service.counter;
+
+public enum CounterType {
+    POST_LIKES, POST_COMMENTS, COMMENT_LIKES
+}
@@ -0,0 +1,188 @@
+package faang.school.postservice.service.enrichment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+@Slf4j
+public class BatchLoader<V> {
+
+    private static final long MAX_UNKNOWN = 10_000;
+
+    private final Function<List<Long>, List<V>> bulkFetch;
+    private final Function<V, Long> idOf;
+    private final Cache<Long, V> cache;
+    private final Cache<Long, Boolean> unknown;
+    private final SecondLevelCache<V> secondLevelCache;
+    private final ScheduledExecutorService scheduler;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final Map<Long, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Queue<Long> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    /**
+     * @param scheduler runs the remote calls of this loader only, so a slow service cannot stall other loaders
+     * @param unknownTtl how long ids the remote service did not return are answered as unknown without a lookup
+     */
+    public BatchLoader(Function<List<Long>, List<V>> bulkFetch, Function<V, Long> idOf, Cache<Long, V> cache,
+                       SecondLevelCache<V> secondLevelCache, ScheduledExecutorService scheduler,
+                       Duration window, int maxBatchSize, Duration unknownTtl) {
+        this.bulkFetch = bulkFetch;
+        this.idOf = idOf;
+        this.cache = cache;
+        this.unknown = Caffeine.newBuilder()
+                .maximumSize(MAX_UNKNOWN)
+                .expireAfterWrite(unknownTtl)
+                .build();
+        this.secondLevelCache = secondLevelCache;
+        this.scheduler = scheduler;
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public CompletableFuture<V> load(long id) {
+        V cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        if (unknown.getIfPresent(id) != null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return inFlight.computeIfAbsent(id, key -> {
+            CompletableFuture<V> future = new CompletableFuture<>();
+            pending.add(key);
+            scheduleFlush();
+            return future;
+        });
+    }
+
+    /**
+     * Loads what it can: ids whose lookup failed are left out of the result, like unknown ids, so one failing
+     * remote call degrades the affected entries instead of the whole page.
+     */
+    public Map<Long, V> loadAll(Collection<Long> ids) {
+        Map<Long, CompletableFuture<V>> futures = new HashMap<>();
+        new LinkedHashSet<>(ids).forEach(id -> futures.put(id, load(id)));
+
+        Map<Long, V> loaded = new HashMap<>();
+        futures.forEach((id, future) -> {
+            try {
+                Optional.ofNullable(future.join()).ifPresent(value -> loaded.put(id, value));
+            } catch (CompletionException | CancellationException e) {
+                log.debug("Lookup of id {} failed, leaving it out", id);
+            }
+        });
+        return loaded;
+    }
+
+    private void scheduleFlush() {
+        if (pending.size() >= maxBatchSize) {
+            scheduler.execute(this::flush);
+        } else if (flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        List<Long> batch = new ArrayList<>(maxBatchSize);
+        Long id;
+        while (batch.size() < maxBatchSize && (id = pending.poll()) != null) {
+            batch.add(id);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        Map<Long, V> loaded = fromSecondLevel(batch);
+        List<Long> missing = batch.stream().filter(key -> !loaded.containsKey(key)).toList();
+        RuntimeException failure = null;
+        if (!missing.isEmpty()) {
+            try {
+                loaded.putAll(fetchRemote(missing));
+                missing.stream()
+                        .filter(key -> !loaded.containsKey(key))
+                        .forEach(key -> unknown.put(key, Boolean.TRUE));
+            } catch (RuntimeException e) {
+                log.warn("Bulk load of {} ids failed", missing.size(), e);
+                failure = e;
+            }
+        }
+        for (Long key : batch) {
+            if (failure != null && !loaded.containsKey(key)) {
+                fail(key, failure);
+            } else {
+                complete(key, loaded.get(key));
+            }
+        }
+        if (!pending.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    private Map<Long, V> fromSecondLevel(List<Long> batch) {
+        Map<Long, V> loaded = new HashMap<>();
+        if (secondLevelCache != null) {
+            try {
+                loaded.putAll(secondLevelCache.getAll(batch));
+            } catch (RuntimeException e) {
+                log.warn("Second level cache lookup failed, loading {} ids remotely", batch.size(), e);
+            }
+        }
+        return loaded;
+    }
+
+    private Map<Long, V> fetchRemote(List<Long> missing) {
+        Map<Long, V> fetched = new HashMap<>();
+        bulkFetch.apply(missing).forEach(value -> fetched.put(idOf.apply(value), value));
+        writeToSecondLevel(fetched);
+        return fetched;
+    }
+
+    private void writeToSecondLevel(Map<Long, V> fetched) {
+        if (secondLevelCache == null || fetched.isEmpty()) {
+            return;
+        }
+        try {
+            secondLevelCache.putAll(fetched);
+        } catch (RuntimeException e) {
+            log.warn("Failed to write {} entries to second level cache", fetched.size(), e);
+        }
+    }
+
+    private void fail(long id, RuntimeException e) {
+        CompletableFuture<V> future = inFlight.remove(id);
+        if (future != null) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    private void complete(long id, V value) {
+        if (value != null) {
+            cache.put(id, value);
+        }
+        CompletableFuture<V> future = inFlight.remove(id);
+        if (future != null) {
+            future.complete(value);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package faang.school.postservice.service.enrichment;
+
+import faang.school.postservice.dto.comment.CommentDto;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.project.ProjectDto;
+import faang.school.postservice.dto.user.UserDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+public class EnrichmentService {
+
+    private final BatchLoader<UserDto> userLoader;
+    private final BatchLoader<ProjectDto> projectLoader;
+
+    public List<PostDto> enrichPosts(List<PostDto> posts) {
+        Map<Long, UserDto> authors = userLoader.loadAll(posts.stream()
+                .map(PostDto::getAuthorId)
+                .filter(Objects::nonNull)
+                .toList());
+        Map<Long, ProjectDto> projects = projectLoader.loadAll(posts.stream()
+                .map(PostDto::getProjectId)
+                .filter(Objects::nonNull)
+                .toList());
+        posts.forEach(post -> {
+            post.setAuthor(post.getAuthorId() == null ? null : authors.get(post.getAuthorId()));
+            post.setProject(post.getProjectId() == null ? null : projects.get(post.getProjectId()));
+        });
+        return posts;
+    }
+
+    public List<CommentDto> enrichComments(List<CommentDto> comments) {
+        Map<Long, UserDto> authors = userLoader.loadAll(comments.stream().map(CommentDto::getAuthorId).toList());
+        comments.forEach(comment -> comment.setAuthor(authors.get(comment.getAuthorId())));
+        return comments;
+    }
+}
@@ -0,0 +1,67 @@
+package faang.school.postservice.service.enrichment;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+public class RedisSecondLevelCache<V> implements SecondLevelCache<V> {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix;
+    private final Class<V> type;
+    private final Duration ttl;
+
+    @Override
+    public Map<Long, V> getAll(Collection<Long> ids) {
+        List<Long> keys = List.copyOf(ids);
+        List<String> values = redisTemplate.opsForValue().multiGet(keys.stream().map(this::key).toList());
+        Map<Long, V> found = new HashMap<>();
+        if (values == null) {
+            return found;
+        }
+        for (int i = 0; i < keys.size(); i++) {
+            String json = values.get(i);
+            if (json != null) {
+                try {
+                    found.put(keys.get(i), objectMapper.readValue(json, type));
+                } catch (JsonProcessingException e) {
+                    log.warn("Skipping unreadable cache entry {}", key(keys.get(i)), e);
+                }
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public void putAll(Map<Long, V> values) {
+        long ttlSeconds = ttl.toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            values.forEach((id, value) -> {
+                try {
+                    stringConnection.setEx(key(id), ttlSeconds, objectMapper.writeValueAsString(value));
+                } catch (JsonProcessingException e) {
+                    log.warn("Failed to cache {}", key(id), e);
+                }
+            });
+            return null;
+        });
+    }
+
+    private String key(long id) {
+        return keyPrefix + id;
+    }
+}
@@ -0,0 +1,11 @@
+package faang.school.postservice.service.enrichment;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface SecondLevelCache<V> {
+
+    Map<Long, V> getAll(Collection<Long> ids);
+
+    void putAll(Map<Long, V> values);
+}
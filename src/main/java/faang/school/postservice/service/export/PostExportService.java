@@ -0,0 +1,129 @@
+package faang.school.postservice.service.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import faang.school.postservice.config.datasource.ReplicaRoutingDataSource;
+import faang.school.postservice.dto.export.CommentExportRow;
+import faang.school.postservice.dto.export.ExportRow;
+import faang.school.postservice.dto.export.LikeExportRow;
+import faang.school.postservice.dto.export.PostExportRow;
+import faang.school.postservice.dto.export.ResourceExportRow;
+import faang.school.postservice.exception.ForbiddenException;
+import faang.school.postservice.repository.ExportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Writes an author's posts as NDJSON, each post line followed by the lines of its comments, likes and
+ * resources. All four result sets are read through cursors ordered by post id and merged on the fly,
+ * so memory use does not depend on the size of the export. The cursors stay open for the whole export, so they
+ * run on the primary, where a replica's recovery conflicts can't cancel them.
+ */
+@Slf4j
+@Service
+public class PostExportService {
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public PostExportService(ExportRepository exportRepository, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.exportRepository = exportRepository;
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(ExportRow.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void checkCanExport(long authorId, long userId) {
+        if (authorId != userId) {
+            throw new ForbiddenException("Only the author can export posts of author " + authorId);
+        }
+    }
+
+    public void export(long authorId, OutputStream out, boolean gzip) throws IOException {
+        if (gzip) {
+            GZIPOutputStream compressed = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+            export(authorId, compressed);
+            compressed.finish();
+        } else {
+            export(authorId, out);
+        }
+        out.flush();
+    }
+
+    private void export(long authorId, OutputStream out) {
+        ReplicaRoutingDataSource.onPrimary(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<PostExportRow> posts = exportRepository.streamPosts(authorId);
+                 Stream<CommentExportRow> comments = exportRepository.streamComments(authorId);
+                 Stream<LikeExportRow> likes = exportRepository.streamLikes(authorId);
+                 Stream<ResourceExportRow> resources = exportRepository.streamResources(authorId);
+                 JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                ChildRows<CommentExportRow> commentRows = new ChildRows<>(comments.iterator());
+                ChildRows<LikeExportRow> likeRows = new ChildRows<>(likes.iterator());
+                ChildRows<ResourceExportRow> resourceRows = new ChildRows<>(resources.iterator());
+                long written = 0;
+                for (Iterator<PostExportRow> it = posts.iterator(); it.hasNext(); ) {
+                    PostExportRow post = it.next();
+                    write(generator, post);
+                    written += 1
+                            + commentRows.writeFor(post.postId(), generator)
+                            + likeRows.writeFor(post.postId(), generator)
+                            + resourceRows.writeFor(post.postId(), generator);
+                }
+                if (written > 0) {
+                    generator.writeRaw('\n');
+                }
+                log.debug("Exported {} rows for author {}", written, authorId);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    private void write(JsonGenerator generator, ExportRow row) throws IOException {
+        rowWriter.writeValue(generator, row);
+    }
+
+    private class ChildRows<T extends ExportRow> {
+
+        private final Iterator<T> rows;
+        private T next;
+
+        private ChildRows(Iterator<T> rows) {
+            this.rows = rows;
+            this.next = rows.hasNext() ? rows.next() : null;
+        }
+
+        private long writeFor(long postId, JsonGenerator generator) throws IOException {
+            long written = 0;
+            while (next != null && next.postId() <= postId) {
+                if (next.postId() == postId) {
+                    write(generator, next);
+                    written++;
+                }
+                next = rows.hasNext() ? rows.next() : null;
+            }
+            return written;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package faang.school.postservice.service.feed;
+
+import faang.school.postservice.dto.page.Cursor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class FeedRedisRepository {
+
+    private static final String USER_FEED_KEY = "feed:user:";
+    private static final String AUTHOR_FEED_KEY = "feed:author:";
+    private static final String CELEBRITIES_KEY = "feed:celebrities";
+    private static final int TIE_SLACK = 16;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void pushToFollowers(Collection<Long> followerIds, long postId, long score, int capacity) {
+        String member = toMember(postId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (Long followerId : followerIds) {
+                String key = USER_FEED_KEY + followerId;
+                stringConnection.zAdd(key, score, member);
+                stringConnection.zRemRangeByRank(key, 0, -(capacity + 1));
+            }
+            return null;
+        });
+    }
+
+    public void pushToAuthor(long authorId, long postId, long score, int capacity) {
+        String key = AUTHOR_FEED_KEY + authorId;
+        redisTemplate.opsForZSet().add(key, toMember(postId), score);
+        redisTemplate.opsForZSet().removeRange(key, 0, -(capacity + 1));
+        redisTemplate.opsForSet().add(CELEBRITIES_KEY, String.valueOf(authorId));
+    }
+
+    public List<Long> findCelebrities(List<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Object, Boolean> membership = redisTemplate.opsForSet()
+                .isMember(CELEBRITIES_KEY, authorIds.stream().map(String::valueOf).toArray());
+        return authorIds.stream()
+                .filter(authorId -> Boolean.TRUE.equals(membership.get(String.valueOf(authorId))))
+                .toList();
+    }
+
+    public List<Cursor> findUserFeed(long userId, Cursor after, int limit) {
+        return findPage(USER_FEED_KEY + userId, after, limit);
+    }
+
+    public List<Cursor> findAuthorFeed(long authorId, Cursor after, int limit) {
+        return findPage(AUTHOR_FEED_KEY + authorId, after, limit);
+    }
+
+    private List<Cursor> findPage(String key, Cursor after, int limit) {
+        double max = after == null ? Double.POSITIVE_INFINITY : after.position();
+        List<Cursor> page = new ArrayList<>(limit);
+        long offset = 0;
+        int chunk = limit + TIE_SLACK;
+        while (page.size() < limit) {
+            Set<TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(key, Double.NEGATIVE_INFINITY, max, offset, chunk);
+            if (tuples == null || tuples.isEmpty()) {
+                break;
+            }
+            for (TypedTuple<String> tuple : tuples) {
+                Cursor entry = new Cursor(tuple.getScore().longValue(), Long.parseLong(tuple.getValue()));
+                if (isAfter(entry, after) && page.size() < limit) {
+                    page.add(entry);
+                }
+            }
+            if (tuples.size() < chunk) {
+                break;
+            }
+            offset += chunk;
+        }
+        return page;
+    }
+
+    private boolean isAfter(Cursor entry, Cursor after) {
+        return after == null
+                || entry.position() < after.position()
+                || entry.position() == after.position() && entry.id() < after.id();
+    }
+
+    private String toMember(long postId) {
+        return String.format("%019d", postId);
+    }
+}
@@ -0,0 +1,118 @@
+package faang.school.postservice.service.feed;
+
+import faang.school.postservice.client.UserServiceClient;
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.post.PostView;
+import faang.school.postservice.event.PostPublishedEvent;
+import faang.school.postservice.mapper.PostMapper;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.service.enrichment.EnrichmentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FeedService {
+
+    private static final Comparator<Cursor> NEWEST_FIRST =
+            Comparator.comparingLong(Cursor::position).thenComparingLong(Cursor::id).reversed();
+
+    private final FeedRedisRepository feedRedisRepository;
+    private final UserServiceClient userServiceClient;
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+    private final EnrichmentService enrichmentService;
+
+    @Value("${feed.capacity}")
+    private int capacity;
+
+    @Value("${feed.celebrity-threshold}")
+    private long celebrityThreshold;
+
+    @Value("${feed.fan-out.batch-size}")
+    private int fanOutBatchSize;
+
+    @Value("${feed.max-page-size}")
+    private int maxPageSize;
+
+    @Async("feedExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPostPublished(PostPublishedEvent event) {
+        if (event.authorId() == null) {
+            return;
+        }
+        long score = toScore(event.publishedAt());
+        long followersCount = userServiceClient.getFollowersCount(event.authorId());
+        if (followersCount > celebrityThreshold) {
+            feedRedisRepository.pushToAuthor(event.authorId(), event.postId(), score, capacity);
+            log.debug("Post {} of author {} left for fan-out on read", event.postId(), event.authorId());
+            return;
+        }
+        List<Long> followerIds = userServiceClient.getFollowerIds(event.authorId());
+        for (int from = 0; from < followerIds.size(); from += fanOutBatchSize) {
+            List<Long> batch = followerIds.subList(from, Math.min(from + fanOutBatchSize, followerIds.size()));
+            feedRedisRepository.pushToFollowers(batch, event.postId(), score, capacity);
+        }
+        log.debug("Post {} pushed to {} followers", event.postId(), followerIds.size());
+    }
+
+    public CursorPage<PostDto> getFeed(long userId, String cursorToken, int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxPageSize);
+        }
+        Cursor after = cursorToken == null ? null : Cursor.decode(cursorToken);
+
+        List<Cursor> entries = new ArrayList<>(feedRedisRepository.findUserFeed(userId, after, size));
+        List<Long> celebrities = feedRedisRepository.findCelebrities(userServiceClient.getFolloweeIds(userId));
+        for (Long celebrityId : celebrities) {
+            entries.addAll(feedRedisRepository.findAuthorFeed(celebrityId, after, size));
+        }
+        List<Cursor> page = entries.stream()
+                .sorted(NEWEST_FIRST)
+                .collect(Collectors.toCollection(LinkedHashSet::new))
+                .stream()
+                .limit(size)
+                .toList();
+
+        String nextCursor = page.size() < size ? null : page.get(page.size() - 1).encode();
+        return new CursorPage<>(loadPosts(page), nextCursor);
+    }
+
+    private List<PostDto> loadPosts(List<Cursor> page) {
+        if (page.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> ids = page.stream().map(Cursor::id).collect(Collectors.toSet());
+        Map<Long, PostView> posts = postRepository.findPublishedViewsByIds(ids).stream()
+                .collect(Collectors.toMap(PostView::id, Function.identity()));
+        List<PostDto> dtos = page.stream()
+                .map(entry -> posts.get(entry.id()))
+                .filter(Objects::nonNull)
+                .map(postMapper::toDto)
+                .toList();
+        return enrichmentService.enrichPosts(dtos);
+    }
+
+    private long toScore(LocalDateTime publishedAt) {
+        return publishedAt.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
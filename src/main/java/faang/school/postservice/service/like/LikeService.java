@@ -0,0 +1,229 @@
+package faang.school.postservice.service.like;
+
+import faang.school.postservice.dto.bulk.BulkResultDto;
+import faang.school.postservice.dto.comment.CommentPost;
+import faang.school.postservice.dto.like.LikeDto;
+import faang.school.postservice.dto.like.LikeStateDto;
+import faang.school.postservice.dto.like.LikeView;
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.event.OutboxEvent;
+import faang.school.postservice.event.OutboxEventType;
+import faang.school.postservice.exception.ForbiddenException;
+import faang.school.postservice.exception.NotFoundException;
+import faang.school.postservice.mapper.LikeMapper;
+import faang.school.postservice.repository.CommentRepository;
+import faang.school.postservice.repository.LikeRepository;
+import faang.school.postservice.repository.LikeToggleRepository;
+import faang.school.postservice.repository.OutboxRepository;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.service.counter.CounterAggregator;
+import faang.school.postservice.service.counter.CounterService;
+import faang.school.postservice.service.counter.CounterType;
+import faang.school.postservice.service.page.CursorPages;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final LikeRepository likeRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final LikeMapper likeMapper;
+    private final CounterAggregator counterAggregator;
+    private final OutboxRepository outboxRepository;
+    private final LikeToggleRepository likeToggleRepository;
+    private final LikedPostsCache likedPostsCache;
+    private final CounterService counterService;
+
+    @Value("${pagination.max-page-size}")
+    private int maxPageSize;
+
+    @Value("${bulk.max-size}")
+    private int maxBulkSize;
+
+    @Value("${bulk.chunk-size}")
+    private int bulkChunkSize;
+
+    @Transactional
+    public LikeStateDto likePost(long postId, long userId) {
+        if (likeToggleRepository.likePost(postId, userId)) {
+            counterAggregator.increment(CounterType.POST_LIKES, postId, 1);
+            outboxRepository.save(OutboxEvent.of(OutboxEventType.POST_LIKED, postId, userId, postId));
+            likedPostsCache.onLiked(userId, postId, true);
+            return new LikeStateDto(true, postLikes(postId) + 1);
+        }
+        if (!postRepository.existsPublished(postId)) {
+            throw new NotFoundException("Post " + postId + " not found");
+        }
+        return new LikeStateDto(true, postLikes(postId));
+    }
+
+    @Transactional
+    public LikeStateDto unlikePost(long postId, long userId) {
+        if (likeToggleRepository.unlikePost(postId, userId)) {
+            counterAggregator.increment(CounterType.POST_LIKES, postId, -1);
+            outboxRepository.save(OutboxEvent.of(OutboxEventType.POST_UNLIKED, postId, userId, postId));
+            likedPostsCache.onLiked(userId, postId, false);
+            return new LikeStateDto(false, postLikes(postId) - 1);
+        }
+        return new LikeStateDto(false, postLikes(postId));
+    }
+
+    @Transactional
+    public LikeStateDto likeComment(long commentId, long userId) {
+        OptionalLong postId = likeToggleRepository.likeComment(commentId, userId);
+        if (postId.isPresent()) {
+            counterAggregator.increment(CounterType.COMMENT_LIKES, commentId, 1);
+            outboxRepository.save(OutboxEvent.of(OutboxEventType.COMMENT_LIKED, commentId, userId, postId.getAsLong()));
+            return new LikeStateDto(true, commentLikes(commentId) + 1);
+        }
+        if (!commentRepository.existsOnPublishedPost(commentId)) {
+            throw new NotFoundException("Comment " + commentId + " not found");
+        }
+        return new LikeStateDto(true, commentLikes(commentId));
+    }
+
+    @Transactional
+    public LikeStateDto unlikeComment(long commentId, long userId) {
+        OptionalLong postId = likeToggleRepository.unlikeComment(commentId, userId);
+        if (postId.isPresent()) {
+            counterAggregator.increment(CounterType.COMMENT_LIKES, commentId, -1);
+            outboxRepository.save(OutboxEvent.of(OutboxEventType.COMMENT_UNLIKED, commentId, userId, postId.getAsLong()));
+            return new LikeStateDto(false, commentLikes(commentId) - 1);
+        }
+        return new LikeStateDto(false, commentLikes(commentId));
+    }
+
+    public List<Long> getLikedPosts(long userId, List<Long> postIds) {
+        if (postIds.size() > maxPageSize) {
+            throw new IllegalArgumentException("At most " + maxPageSize + " posts can be checked at once");
+        }
+        Set<Long> liked = likedPostsCache.findLiked(userId, postIds);
+        return postIds.stream().filter(liked::contains).toList();
+    }
+
+    /**
+     * Imports likes on behalf of the calling user only; a like naming another user or an unknown post or comment is
+     * rejected, while likes the user already has are skipped.
+     */
+    @Transactional
+    public BulkResultDto importLikes(long userId, List<LikeDto> likes) {
+        if (likes.size() > maxBulkSize) {
+            throw new IllegalArgumentException("At most " + maxBulkSize + " likes can be imported at once");
+        }
+        likes.forEach(like -> validate(userId, like));
+        List<Long> postIds = likes.stream().map(LikeDto::getPostId).filter(Objects::nonNull).distinct().toList();
+        List<Long> commentIds = likes.stream().map(LikeDto::getCommentId).filter(Objects::nonNull).distinct().toList();
+        requireVisiblePosts(postIds);
+        requireVisibleComments(commentIds);
+
+        List<Long> likedPosts = new ArrayList<>();
+        for (int from = 0; from < postIds.size(); from += bulkChunkSize) {
+            List<Long> chunk = postIds.subList(from, Math.min(from + bulkChunkSize, postIds.size()));
+            List<Long> inserted = likeToggleRepository.importPostLikes(userId, chunk);
+            outboxRepository.saveAll(inserted.stream()
+                    .map(postId -> OutboxEvent.of(OutboxEventType.POST_LIKED, postId, userId, postId))
+                    .toList());
+            likedPosts.addAll(inserted);
+        }
+        List<CommentPost> likedComments = new ArrayList<>();
+        for (int from = 0; from < commentIds.size(); from += bulkChunkSize) {
+            List<Long> chunk = commentIds.subList(from, Math.min(from + bulkChunkSize, commentIds.size()));
+            List<CommentPost> inserted = likeToggleRepository.importCommentLikes(userId, chunk);
+            outboxRepository.saveAll(inserted.stream()
+                    .map(comment -> OutboxEvent.of(OutboxEventType.COMMENT_LIKED, comment.id(), userId, comment.postId()))
+                    .toList());
+            likedComments.addAll(inserted);
+        }
+
+        likedPosts.forEach(postId -> counterAggregator.increment(CounterType.POST_LIKES, postId, 1));
+        if (!likedPosts.isEmpty()) {
+            likedPostsCache.invalidate(List.of(userId));
+        }
+        likedComments.forEach(comment -> counterAggregator.increment(CounterType.COMMENT_LIKES, comment.id(), 1));
+        return new BulkResultDto(likedPosts.size() + likedComments.size());
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<LikeDto> getPostLikes(long postId, String cursorToken, int size) {
+        Pageable limit = CursorPages.limit(size, maxPageSize);
+        List<LikeView> likes;
+        if (cursorToken == null) {
+            likes = likeRepository.findPageByPostId(postId, limit);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            likes = likeRepository.findPageByPostIdBefore(postId, cursor.timestamp(), cursor.id(), limit);
+        }
+        return toPage(likes, size);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<LikeDto> getCommentLikes(long commentId, String cursorToken, int size) {
+        Pageable limit = CursorPages.limit(size, maxPageSize);
+        List<LikeView> likes;
+        if (cursorToken == null) {
+            likes = likeRepository.findPageByCommentId(commentId, limit);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            likes = likeRepository.findPageByCommentIdBefore(commentId, cursor.timestamp(), cursor.id(), limit);
+        }
+        return toPage(likes, size);
+    }
+
+    private long postLikes(long postId) {
+        return counterService.getPostCounters(List.of(postId)).get(0).likes();
+    }
+
+    private long commentLikes(long commentId) {
+        return counterService.getCommentCounters(List.of(commentId)).get(0).likes();
+    }
+
+    private void validate(long userId, LikeDto likeDto) {
+        if ((likeDto.getPostId() == null) == (likeDto.getCommentId() == null)) {
+            throw new IllegalArgumentException("Each like needs exactly one of postId or commentId");
+        }
+        if (likeDto.getUserId() != null && likeDto.getUserId() != userId) {
+            throw new ForbiddenException("Likes can only be imported on behalf of user " + userId);
+        }
+    }
+
+    private void requireVisiblePosts(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Set<Long> unknown = new HashSet<>(postIds);
+        postRepository.findPublishedIds(postIds).forEach(unknown::remove);
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Posts " + unknown + " do not exist");
+        }
+    }
+
+    private void requireVisibleComments(List<Long> commentIds) {
+        if (commentIds.isEmpty()) {
+            return;
+        }
+        Set<Long> unknown = new HashSet<>(commentIds);
+        commentRepository.findPublishedPosts(commentIds).forEach(comment -> unknown.remove(comment.id()));
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Comments " + unknown + " do not exist");
+        }
+    }
+
+    private CursorPage<LikeDto> toPage(List<LikeView> likes, int size) {
+        return CursorPages.toPage(likes, size, like -> Cursor.of(like.createdAt(), like.id()),
+                page -> page.stream().map(likeMapper::toDto).toList());
+    }
+}
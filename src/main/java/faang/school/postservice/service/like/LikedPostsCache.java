@@ -0,0 +1,44 @@
+package faang.school.postservice.service.like;
+
+import faang.school.postservice.repository.LikeToggleRepository;
+import faang.school.postservice.service.cache.UserIdSetCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the ids of posts each user liked in Redis, so the like state of a whole feed page is one SMISMEMBER.
+ * Cold sets are loaded from the user's likes partition.
+ */
+@Component
+public class LikedPostsCache {
+
+    private final UserIdSetCache likedPosts;
+
+    public LikedPostsCache(StringRedisTemplate redisTemplate, LikeToggleRepository likeToggleRepository,
+                           @Value("${like.liked-posts.ttl-hours}") long ttlHours) {
+        this.likedPosts = new UserIdSetCache(redisTemplate, "user:liked-posts:", Duration.ofHours(ttlHours),
+                likeToggleRepository::findLikedPostIds);
+    }
+
+    public Set<Long> findLiked(long userId, List<Long> postIds) {
+        return likedPosts.findMembers(userId, postIds);
+    }
+
+    public void onLiked(long userId, long postId, boolean liked) {
+        if (liked) {
+            likedPosts.add(userId, postId);
+        } else {
+            likedPosts.remove(userId, postId);
+        }
+    }
+
+    public void invalidate(Collection<Long> userIds) {
+        likedPosts.evict(userIds);
+    }
+}
@@ -0,0 +1,121 @@
+package faang.school.postservice.service.outbox;
+
+import faang.school.postservice.event.OutboxEvent;
+import faang.school.postservice.repository.OutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Moves outbox rows to the events stream. Rows are locked, appended to the stream and deleted in one
+ * database transaction, so a crash between the append and the commit only causes redelivery.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final StringRedisTemplate redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicLong streamBacklog = new AtomicLong();
+    private final Timer batchTimer;
+    private final Counter relayedCounter;
+    private final Counter pausedCounter;
+
+    @Value("${outbox.stream.key}")
+    private String streamKey;
+
+    @Value("${outbox.stream.max-backlog}")
+    private long maxBacklog;
+
+    @Value("${outbox.relay.batch-size}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-batches}")
+    private int maxBatches;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       StringRedisTemplate redisTemplate,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        meterRegistry.gauge("outbox.stream.backlog", streamBacklog);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("Time to lock, append and delete one batch of outbox events")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.relayedCounter = meterRegistry.counter("outbox.relay.relayed");
+        this.pausedCounter = meterRegistry.counter("outbox.relay.paused");
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.fixed-delay-ms}")
+    public void relay() {
+        try {
+            for (int i = 0; i < maxBatches; i++) {
+                Long length = redisTemplate.opsForStream().size(streamKey);
+                streamBacklog.set(length == null ? 0 : length);
+                if (streamBacklog.get() >= maxBacklog) {
+                    pausedCounter.increment();
+                    return;
+                }
+                Integer relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+                if (relayed == null || relayed < batchSize) {
+                    return;
+                }
+            }
+        } catch (DataAccessException e) {
+            log.warn("Outbox relay failed, events stay in the outbox for the next run", e);
+        }
+    }
+
+    private int relayBatch() {
+        List<OutboxEvent> batch = outboxRepository.lockBatch(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                batch.forEach(event -> operations.opsForStream()
+                        .add(StreamRecords.string(toFields(event)).withStreamKey(streamKey)));
+                return null;
+            }
+        });
+        outboxRepository.deleteAll(batch.stream().map(OutboxEvent::id).toList());
+        relayedCounter.increment(batch.size());
+        return batch.size();
+    }
+
+    private Map<String, String> toFields(OutboxEvent event) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("eventId", String.valueOf(event.id()));
+        fields.put("type", event.type().name());
+        fields.put("aggregateId", String.valueOf(event.aggregateId()));
+        if (event.actorId() != null) {
+            fields.put("actorId", String.valueOf(event.actorId()));
+        }
+        if (event.postId() != null) {
+            fields.put("postId", String.valueOf(event.postId()));
+        }
+        fields.put("occurredAt", String.valueOf(event.createdAt().toEpochMilli()));
+        return fields;
+    }
+}
@@ -0,0 +1,10 @@
+package faang.school.postservice.service.outbox;
+
+/**
+ * A reader of the events stream in this service. {@link OutboxStreamMaintainer} creates the consumer group of
+ * every registered reader, so the stream never carries a group that nothing drains.
+ */
+public interface OutboxStreamConsumer {
+
+    String group();
+}
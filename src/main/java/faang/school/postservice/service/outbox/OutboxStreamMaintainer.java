@@ -0,0 +1,117 @@
+package faang.school.postservice.service.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Creates the consumer groups of the registered {@link OutboxStreamConsumer}s and trims the events stream up to
+ * the oldest entry any group still needs, so the stream length equals the unconsumed backlog that
+ * {@link OutboxRelay} throttles on. A group without consumers, or whose consumers have been idle longer than
+ * the stall timeout, is reported through the {@code outbox.stream.stalled-groups} gauge but still pins the trim
+ * point, so no event is dropped before every group has acknowledged it.
+ */
+@Slf4j
+@Component
+public class OutboxStreamMaintainer {
+
+    private static final Comparator<RecordId> RECORD_ORDER = Comparator
+            .comparingLong(RecordId::getTimestamp)
+            .thenComparingLong(RecordId::getSequence);
+
+    private final StringRedisTemplate redisTemplate;
+    private final List<OutboxStreamConsumer> consumers;
+    private final AtomicInteger stalledGroups = new AtomicInteger();
+
+    @Value("${outbox.stream.key}")
+    private String streamKey;
+
+    @Value("${outbox.stream.stall-timeout-ms}")
+    private long stallTimeoutMs;
+
+    public OutboxStreamMaintainer(StringRedisTemplate redisTemplate,
+                                  List<OutboxStreamConsumer> consumers,
+                                  MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.consumers = consumers;
+        meterRegistry.gauge("outbox.stream.stalled-groups", stalledGroups);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void createGroups() {
+        byte[] key = streamKey.getBytes(StandardCharsets.UTF_8);
+        consumers.stream().map(OutboxStreamConsumer::group).distinct().forEach(group -> {
+            try {
+                redisTemplate.execute((RedisCallback<String>) connection ->
+                        connection.streamCommands().xGroupCreate(key, group, ReadOffset.from("0-0"), true));
+            } catch (DataAccessException e) {
+                log.debug("Consumer group {} already exists on {}", group, streamKey);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.stream.trim-delay-ms}")
+    public void trim() {
+        try {
+            XInfoGroups infoGroups = redisTemplate.opsForStream().groups(streamKey);
+            if (infoGroups == null || infoGroups.isEmpty()) {
+                return;
+            }
+            stalledGroups.set((int) infoGroups.stream().filter(this::isStalled).count());
+            RecordId oldestNeeded = infoGroups.stream()
+                    .map(this::oldestNeeded)
+                    .min(RECORD_ORDER)
+                    .orElseThrow();
+            xtrim("MINID", oldestNeeded.getValue());
+        } catch (DataAccessException e) {
+            log.warn("Failed to trim stream {}", streamKey, e);
+        }
+    }
+
+    private boolean isStalled(XInfoGroup group) {
+        XInfoConsumers groupConsumers = redisTemplate.opsForStream().consumers(streamKey, group.groupName());
+        boolean live = groupConsumers != null && groupConsumers.stream()
+                .anyMatch(consumer -> consumer.idleTimeMs() < stallTimeoutMs);
+        if (!live) {
+            log.warn("Consumer group {} on {} is stalled and holds back trimming", group.groupName(), streamKey);
+        }
+        return !live;
+    }
+
+    private void xtrim(String... args) {
+        byte[][] rawArgs = new byte[args.length + 1][];
+        rawArgs[0] = streamKey.getBytes(StandardCharsets.UTF_8);
+        for (int i = 0; i < args.length; i++) {
+            rawArgs[i + 1] = args[i].getBytes(StandardCharsets.UTF_8);
+        }
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("XTRIM", rawArgs));
+    }
+
+    private RecordId oldestNeeded(XInfoGroup group) {
+        if (group.pendingCount() > 0) {
+            PendingMessagesSummary pending = redisTemplate.opsForStream().pending(streamKey, group.groupName());
+            if (pending != null && pending.getTotalPendingMessages() > 0) {
+                return RecordId.of(pending.minMessageId());
+            }
+        }
+        return RecordId.of(group.lastDeliveredId());
+    }
+}
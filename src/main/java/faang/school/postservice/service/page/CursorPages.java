@@ -0,0 +1,31 @@
+package faang.school.postservice.service.page;
+
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+public final class CursorPages {
+
+    private CursorPages() {
+    }
+
+    public static Pageable limit(int size, int maxSize) {
+        if (size < 1 || size > maxSize) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + maxSize);
+        }
+        return PageRequest.of(0, size + 1);
+    }
+
+    public static <E, D> CursorPage<D> toPage(List<E> rows, int size,
+                                              Function<E, Cursor> cursorOf,
+                                              Function<List<E>, List<D>> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(size - 1)).encode() : null;
+        return new CursorPage<>(mapper.apply(page), nextCursor);
+    }
+}
@@ -0,0 +1,166 @@
+package faang.school.postservice.service.partition;
+
+import faang.school.postservice.repository.CommentPartitionRepository;
+import faang.school.postservice.repository.CommentPartitionRepository.MonthlyPartition;
+import faang.school.postservice.service.resource.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Keeps monthly comment partitions created ahead of time and moves the ones past retention to object storage:
+ * a partition is detached, its comments and their likes are written there as gzipped CSV, and only then are
+ * the likes, counters and the table itself dropped. Every step is safe to repeat, so a run interrupted at any
+ * point is finished by the next one. Runs go to their own executor and only the instance holding the Redis
+ * lease does the work, so neither the scheduler thread nor a second instance is tied up by the COPY.
+ */
+@Slf4j
+@Component
+public class CommentPartitionMaintainer {
+
+    private static final String CSV_GZIP = "application/gzip";
+    private static final String LEASE_KEY = "comment:partition:lease";
+
+    private final CommentPartitionRepository partitionRepository;
+    private final ObjectStorage objectStorage;
+    private final StringRedisTemplate redisTemplate;
+    private final ThreadPoolTaskExecutor partitionExecutor;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final String owner = UUID.randomUUID().toString();
+
+    @Value("${comment.partition.months-ahead}")
+    private int monthsAhead;
+
+    @Value("${comment.archive.enabled}")
+    private boolean archiveEnabled;
+
+    @Value("${comment.archive.retention-months}")
+    private int retentionMonths;
+
+    @Value("${comment.archive.prefix}")
+    private String archivePrefix;
+
+    @Value("${comment.archive.batch-size}")
+    private int batchSize;
+
+    @Value("${comment.partition.lease-ms}")
+    private long leaseMs;
+
+    public CommentPartitionMaintainer(CommentPartitionRepository partitionRepository,
+                                      ObjectStorage objectStorage,
+                                      StringRedisTemplate redisTemplate,
+                                      @Qualifier("partitionExecutor") ThreadPoolTaskExecutor partitionExecutor) {
+        this.partitionRepository = partitionRepository;
+        this.objectStorage = objectStorage;
+        this.redisTemplate = redisTemplate;
+        this.partitionExecutor = partitionExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${comment.partition.cron}")
+    public void schedule() {
+        if (running.compareAndSet(false, true)) {
+            partitionExecutor.execute(() -> {
+                try {
+                    maintainUnderLease();
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    private void maintainUnderLease() {
+        Boolean leased = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, owner, Duration.ofMillis(leaseMs));
+        if (!Boolean.TRUE.equals(leased)) {
+            log.debug("Comment partitions are maintained by another instance");
+            return;
+        }
+        try {
+            maintain();
+        } finally {
+            if (owner.equals(redisTemplate.opsForValue().get(LEASE_KEY))) {
+                redisTemplate.delete(LEASE_KEY);
+            }
+        }
+    }
+
+    private void maintain() {
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                partitionRepository.createPartition(month);
+            } catch (RuntimeException e) {
+                log.error("Failed to create comment partition {}, its rows go to the default partition", month, e);
+            }
+        }
+        if (archiveEnabled) {
+            YearMonth oldestKept = current.minusMonths(retentionMonths);
+            partitionRepository.findMonthlyPartitions().stream()
+                    .filter(partition -> partition.month().isBefore(oldestKept))
+                    .forEach(this::archive);
+        }
+    }
+
+    private void archive(MonthlyPartition partition) {
+        YearMonth month = partition.month();
+        redisTemplate.expire(LEASE_KEY, Duration.ofMillis(leaseMs));
+        try {
+            if (partition.attached()) {
+                partitionRepository.detach(month);
+            }
+            String prefix = archivePrefix + "/" + CommentPartitionRepository.tableName(month);
+            upload(prefix + "/comment.csv.gz", month, partitionRepository::copyComments);
+            upload(prefix + "/likes.csv.gz", month, partitionRepository::copyCommentLikes);
+
+            long likes = 0;
+            int deleted;
+            do {
+                deleted = partitionRepository.deleteCommentLikes(month, batchSize);
+                likes += deleted;
+            } while (deleted == batchSize);
+            partitionRepository.deleteCommentCounters(month);
+            partitionRepository.drop(month);
+            log.info("Archived comment partition {} with {} likes to {}", month, likes, prefix);
+        } catch (RuntimeException e) {
+            log.warn("Failed to archive comment partition {}", month, e);
+        }
+    }
+
+    private void upload(String key, YearMonth month, BiFunction<YearMonth, OutputStream, Long> copy) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("comment-archive", ".csv.gz");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file))) {
+                copy.apply(month, out);
+            }
+            objectStorage.putFile(key, file, CSV_GZIP);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (file != null) {
+                file.toFile().delete();
+            }
+        }
+    }
+}
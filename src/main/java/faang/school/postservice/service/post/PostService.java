@@ -0,0 +1,147 @@
+package faang.school.postservice.service.post;
+
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.dto.post.PostView;
+import faang.school.postservice.event.OutboxEvent;
+import faang.school.postservice.event.OutboxEventType;
+import faang.school.postservice.event.PostPublishedEvent;
+import faang.school.postservice.exception.ConflictException;
+import faang.school.postservice.exception.ForbiddenException;
+import faang.school.postservice.exception.NotFoundException;
+import faang.school.postservice.mapper.PostMapper;
+import faang.school.postservice.model.Post;
+import faang.school.postservice.repository.OutboxRepository;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.service.cache.PostViewCache;
+import faang.school.postservice.service.enrichment.EnrichmentService;
+import faang.school.postservice.service.page.CursorPages;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalLong;
+
+@Service
+@RequiredArgsConstructor
+public class PostService {
+
+    private final PostRepository postRepository;
+    private final PostMapper postMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EnrichmentService enrichmentService;
+    private final PostViewCache postViewCache;
+    private final OutboxRepository outboxRepository;
+
+    @Value("${pagination.max-page-size}")
+    private int maxPageSize;
+
+    @Transactional
+    public PostDto publishPost(long postId, long userId) {
+        Post post = getPostEntity(postId);
+        if (post.getAuthorId() == null || post.getAuthorId() != userId) {
+            throw new ForbiddenException("Only the author can publish post " + postId);
+        }
+        if (post.isDeleted()) {
+            throw new ConflictException("Post " + postId + " is deleted");
+        }
+        if (post.isPublished()) {
+            throw new ConflictException("Post " + postId + " is already published");
+        }
+        post.setPublished(true);
+        post.setPublishedAt(LocalDateTime.now());
+        postRepository.save(post);
+        postViewCache.invalidate(postId);
+        outboxRepository.save(OutboxEvent.of(OutboxEventType.POST_PUBLISHED, postId, post.getAuthorId(), postId));
+        eventPublisher.publishEvent(new PostPublishedEvent(post.getId(), post.getAuthorId(), post.getPublishedAt()));
+        return postMapper.toDto(post);
+    }
+
+    /**
+     * Drafts are visible to their author only; anyone else gets the same 404 as for a missing post.
+     */
+    public PostDto getPost(long postId, OptionalLong viewerId) {
+        PostDto post = postViewCache.get(postId, this::loadPostView).toBuilder().build();
+        if (!post.isPublished() && !isAuthor(post.getAuthorId(), viewerId)) {
+            throw new NotFoundException("Post " + postId + " not found");
+        }
+        return enrichmentService.enrichPosts(List.of(post)).get(0);
+    }
+
+    @Transactional
+    public PostDto updatePost(long postId, long userId, PostDto postDto) {
+        Post post = getPostEntity(postId);
+        if (post.isDeleted()) {
+            throw new ConflictException("Post " + postId + " is deleted");
+        }
+        if (post.getAuthorId() == null || post.getAuthorId() != userId) {
+            throw new ForbiddenException("Only the author can edit post " + postId);
+        }
+        post.setContent(postDto.getContent());
+        postRepository.save(post);
+        postViewCache.invalidate(postId);
+        return postMapper.toDto(post);
+    }
+
+    @Transactional
+    public void deletePost(long postId, long userId) {
+        Post post = getPostEntity(postId);
+        if (post.getAuthorId() == null || post.getAuthorId() != userId) {
+            throw new ForbiddenException("Only the author can delete post " + postId);
+        }
+        post.setDeleted(true);
+        post.setDeletedAt(LocalDateTime.now());
+        postRepository.save(post);
+        postViewCache.invalidate(postId);
+        outboxRepository.save(OutboxEvent.of(OutboxEventType.POST_DELETED, postId, userId, postId));
+    }
+
+    public CursorPage<PostDto> getPostsByAuthor(long authorId, OptionalLong viewerId, String cursorToken, int size) {
+        Pageable limit = CursorPages.limit(size, maxPageSize);
+        boolean includeDrafts = isAuthor(authorId, viewerId);
+        List<PostView> posts;
+        if (cursorToken == null) {
+            posts = postRepository.findPageByAuthorId(authorId, includeDrafts, limit);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            posts = postRepository.findPageByAuthorIdBefore(authorId, includeDrafts, cursor.timestamp(), cursor.id(),
+                    limit);
+        }
+        return CursorPages.toPage(posts, size, post -> Cursor.of(post.createdAt(), post.id()),
+                page -> enrichmentService.enrichPosts(postMapper.toDtoList(page)));
+    }
+
+    public CursorPage<PostDto> getPostsByProject(long projectId, String cursorToken, int size) {
+        Pageable limit = CursorPages.limit(size, maxPageSize);
+        List<PostView> posts;
+        if (cursorToken == null) {
+            posts = postRepository.findPageByProjectId(projectId, limit);
+        } else {
+            Cursor cursor = Cursor.decode(cursorToken);
+            posts = postRepository.findPageByProjectIdBefore(projectId, cursor.timestamp(), cursor.id(), limit);
+        }
+        return CursorPages.toPage(posts, size, post -> Cursor.of(post.createdAt(), post.id()),
+                page -> enrichmentService.enrichPosts(postMapper.toDtoList(page)));
+    }
+
+    private static boolean isAuthor(Long authorId, OptionalLong viewerId) {
+        return authorId != null && viewerId.isPresent() && viewerId.getAsLong() == authorId;
+    }
+
+    private PostDto loadPostView(long postId) {
+        return postRepository.findViewById(postId)
+                .map(postMapper::toDto)
+                .orElseThrow(() -> new NotFoundException("Post " + postId + " not found"));
+    }
+
+    private Post getPostEntity(long postId) {
+        return postRepository.findById(postId)
+                .orElseThrow(() -> new NotFoundException("Post " + postId + " not found"));
+    }
+}
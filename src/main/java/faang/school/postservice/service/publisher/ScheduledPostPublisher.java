@@ -0,0 +1,95 @@
+package faang.school.postservice.service.publisher;
+
+import faang.school.postservice.event.PostPublishedEvent;
+import faang.school.postservice.repository.PostPublishRepository;
+import faang.school.postservice.repository.PostPublishRepository.PublishedPost;
+import faang.school.postservice.service.cache.PostViewCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Component
+public class ScheduledPostPublisher {
+
+    private final PostPublishRepository postPublishRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostViewCache postViewCache;
+    private final ThreadPoolTaskExecutor publisherExecutor;
+    private final AtomicLong backlog = new AtomicLong();
+    private final Timer batchTimer;
+    private final Timer publishLag;
+    private final Counter publishedCounter;
+
+    @Value("${post.publisher.batch-size}")
+    private int batchSize;
+
+    @Value("${post.publisher.workers}")
+    private int workers;
+
+    @Value("${post.publisher.max-batches-per-worker}")
+    private int maxBatchesPerWorker;
+
+    public ScheduledPostPublisher(PostPublishRepository postPublishRepository,
+                                  ApplicationEventPublisher eventPublisher,
+                                  PostViewCache postViewCache,
+                                  @Qualifier("publisherExecutor") ThreadPoolTaskExecutor publisherExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.postPublishRepository = postPublishRepository;
+        this.eventPublisher = eventPublisher;
+        this.postViewCache = postViewCache;
+        this.publisherExecutor = publisherExecutor;
+        meterRegistry.gauge("post.publisher.backlog", backlog);
+        this.batchTimer = Timer.builder("post.publisher.batch")
+                .description("Time to claim and publish one batch of scheduled posts")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.publishLag = Timer.builder("post.publisher.lag")
+                .description("Delay between scheduled_at and actual publication")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.publishedCounter = meterRegistry.counter("post.publisher.published");
+    }
+
+    @Scheduled(fixedDelayString = "${post.publisher.fixed-delay-ms}")
+    public void publishScheduledPosts() {
+        backlog.set(postPublishRepository.countDue());
+        if (backlog.get() == 0) {
+            return;
+        }
+        CompletableFuture<?>[] tasks = IntStream.range(0, workers)
+                .mapToObj(worker -> CompletableFuture.runAsync(this::drain, publisherExecutor))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(tasks).join();
+    }
+
+    private void drain() {
+        for (int i = 0; i < maxBatchesPerWorker; i++) {
+            List<PublishedPost> batch = batchTimer.record(() -> postPublishRepository.publishDueBatch(batchSize));
+            batch.forEach(this::onPublished);
+            if (batch.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private void onPublished(PublishedPost post) {
+        publishedCounter.increment();
+        publishLag.record(Duration.between(post.scheduledAt(), post.publishedAt()));
+        postViewCache.invalidate(post.id());
+        eventPublisher.publishEvent(new PostPublishedEvent(post.id(), post.authorId(), post.publishedAt()));
+    }
+}
@@ -0,0 +1,30 @@
+package faang.school.postservice.service.purge;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code GET /actuator/postpurge} reports progress; {@code POST /actuator/postpurge {"paused": true}} pauses the
+ * purge on every instance and {@code false} resumes it.
+ */
+@Component
+@Endpoint(id = "postpurge")
+@RequiredArgsConstructor
+public class PostPurgeEndpoint {
+
+    private final PostPurgeEngine purgeEngine;
+
+    @ReadOperation
+    public PurgeStatus status() {
+        return purgeEngine.status();
+    }
+
+    @WriteOperation
+    public PurgeStatus setPaused(boolean paused) {
+        purgeEngine.setPaused(paused);
+        return purgeEngine.status();
+    }
+}
@@ -0,0 +1,284 @@
+package faang.school.postservice.service.purge;
+
+import faang.school.postservice.config.datasource.ReplicaSet;
+import faang.school.postservice.dto.post.PostProject;
+import faang.school.postservice.repository.PostPurgeRepository;
+import faang.school.postservice.repository.PostPurgeRepository.DeletedResources;
+import faang.school.postservice.service.cache.PostViewCache;
+import faang.school.postservice.service.like.LikedPostsCache;
+import faang.school.postservice.service.resource.ObjectStorage;
+import faang.school.postservice.service.trending.TrendingStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+/**
+ * Hard-deletes posts soft-deleted longer than the retention, together with their likes, comments, resources and
+ * ads. Work is done in chunks of {@code chunk-size} rows with a pause after each one, and the run backs off while
+ * any replica lags behind, so vacuum and replication keep up. Only the instance holding the Redis lease purges;
+ * the pause flag also lives in Redis, so pausing through any instance stops the whole cluster. Purged posts are
+ * evicted from the post view cache, the trending sets and the liked-post sets of the users who liked them.
+ */
+@Slf4j
+@Component
+public class PostPurgeEngine {
+
+    private static final String LEASE_KEY = "post:purge:lease";
+    private static final String PAUSED_KEY = "post:purge:paused";
+
+    private final PostPurgeRepository purgeRepository;
+    private final ObjectStorage objectStorage;
+    private final ReplicaSet replicaSet;
+    private final StringRedisTemplate redisTemplate;
+    private final ThreadPoolTaskExecutor purgeExecutor;
+    private final PostViewCache postViewCache;
+    private final TrendingStore trendingStore;
+    private final LikedPostsCache likedPostsCache;
+    private final MeterRegistry meterRegistry;
+    private final AtomicBoolean running = new AtomicBoolean();
+    private final AtomicLong purgedPosts = new AtomicLong();
+    private final Map<String, AtomicLong> purgedRows = new ConcurrentHashMap<>();
+    private final String owner = UUID.randomUUID().toString();
+    private volatile String throttledBy;
+    private volatile Instant lastRunStartedAt;
+    private volatile Instant lastRunFinishedAt;
+    private volatile String lastError;
+
+    @Value("${post.purge.enabled}")
+    private boolean enabled;
+
+    @Value("${post.purge.retention-days}")
+    private int retentionDays;
+
+    @Value("${post.purge.batch-posts}")
+    private int batchPosts;
+
+    @Value("${post.purge.chunk-size}")
+    private int chunkSize;
+
+    @Value("${post.purge.chunk-pause-ms}")
+    private long chunkPauseMs;
+
+    @Value("${post.purge.max-chunks-per-run}")
+    private int maxChunksPerRun;
+
+    @Value("${post.purge.max-replica-lag-ms}")
+    private long maxReplicaLagMs;
+
+    @Value("${post.purge.lease-ms}")
+    private long leaseMs;
+
+    public PostPurgeEngine(PostPurgeRepository purgeRepository,
+                           ObjectStorage objectStorage,
+                           ReplicaSet replicaSet,
+                           StringRedisTemplate redisTemplate,
+                           @Qualifier("purgeExecutor") ThreadPoolTaskExecutor purgeExecutor,
+                           PostViewCache postViewCache,
+                           TrendingStore trendingStore,
+                           LikedPostsCache likedPostsCache,
+                           MeterRegistry meterRegistry) {
+        this.purgeRepository = purgeRepository;
+        this.objectStorage = objectStorage;
+        this.replicaSet = replicaSet;
+        this.redisTemplate = redisTemplate;
+        this.purgeExecutor = purgeExecutor;
+        this.postViewCache = postViewCache;
+        this.trendingStore = trendingStore;
+        this.likedPostsCache = likedPostsCache;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${post.purge.fixed-delay-ms}")
+    public void schedule() {
+        if (enabled && !isPaused() && running.compareAndSet(false, true)) {
+            purgeExecutor.execute(() -> {
+                try {
+                    run();
+                } finally {
+                    running.set(false);
+                }
+            });
+        }
+    }
+
+    public PurgeStatus status() {
+        Map<String, Long> rows = new LinkedHashMap<>();
+        purgedRows.forEach((table, count) -> rows.put(table, count.get()));
+        long backlog = -1;
+        try {
+            backlog = purgeRepository.countExpired(cutoff());
+        } catch (DataAccessException e) {
+            log.warn("Failed to count purge backlog", e);
+        }
+        return new PurgeStatus(isPaused(), running.get(), throttledBy, backlog, purgedPosts.get(), rows,
+                lastRunStartedAt, lastRunFinishedAt, lastError);
+    }
+
+    public void setPaused(boolean paused) {
+        if (paused) {
+            redisTemplate.opsForValue().set(PAUSED_KEY, "1");
+        } else {
+            redisTemplate.delete(PAUSED_KEY);
+        }
+        log.info("Post purge {}", paused ? "paused" : "resumed");
+    }
+
+    private void run() {
+        Boolean leased = redisTemplate.opsForValue().setIfAbsent(LEASE_KEY, owner, Duration.ofMillis(leaseMs));
+        if (!Boolean.TRUE.equals(leased)) {
+            return;
+        }
+        lastRunStartedAt = Instant.now();
+        try {
+            Budget budget = new Budget(maxChunksPerRun);
+            List<Long> batch = purgeRepository.findExpired(cutoff(), batchPosts);
+            while (!batch.isEmpty() && purgeBatch(batch, budget)) {
+                batch = purgeRepository.findExpired(cutoff(), batchPosts);
+            }
+            lastError = null;
+        } catch (RuntimeException e) {
+            lastError = e.toString();
+            log.error("Post purge run failed", e);
+        } finally {
+            lastRunFinishedAt = Instant.now();
+            if (owner.equals(redisTemplate.opsForValue().get(LEASE_KEY))) {
+                redisTemplate.delete(LEASE_KEY);
+            }
+        }
+    }
+
+    /**
+     * Returns false when the run must stop before the batch is finished; the next run resumes it.
+     */
+    private boolean purgeBatch(List<Long> postIds, Budget budget) {
+        if (!drain("comment_likes", ids -> purgeRepository.deleteCommentLikes(ids, chunkSize), postIds, budget)
+                || !drain("comment", ids -> purgeRepository.deleteComments(ids, chunkSize), postIds, budget)
+                || !drain("post_likes", this::deletePostLikes, postIds, budget)
+                || !proceed(budget)) {
+            return false;
+        }
+        DeletedResources resources = purgeRepository.deleteResources(postIds);
+        record("post_resource", resources.rows());
+        record("resource_objects", resources.keys().size());
+        record("post_ad", purgeRepository.deleteAds(postIds));
+        List<PostProject> posts = purgeRepository.deletePosts(postIds);
+        record("post", posts.size());
+        purgedPosts.addAndGet(posts.size());
+        deleteObjects(resources.keys());
+        evict(posts);
+        log.info("Purged {} soft-deleted posts", posts.size());
+        return true;
+    }
+
+    /**
+     * Deletes one chunk of post likes and drops the liked-post sets of their users right away, since a later
+     * chunk may fall into the next run.
+     */
+    private int deletePostLikes(List<Long> postIds) {
+        List<Long> userIds = purgeRepository.deletePostLikes(postIds, chunkSize);
+        likedPostsCache.invalidate(userIds);
+        return userIds.size();
+    }
+
+    private void evict(List<PostProject> posts) {
+        long now = System.currentTimeMillis();
+        for (PostProject post : posts) {
+            try {
+                postViewCache.invalidate(post.id());
+                trendingStore.remove(post.id(), post.projectId(), now);
+            } catch (RuntimeException e) {
+                log.warn("Failed to evict purged post {} from caches", post.id(), e);
+            }
+        }
+    }
+
+    private boolean drain(String table, ToIntFunction<List<Long>> chunk, List<Long> postIds, Budget budget) {
+        int deleted;
+        do {
+            if (!proceed(budget)) {
+                return false;
+            }
+            deleted = chunk.applyAsInt(postIds);
+            record(table, deleted);
+        } while (deleted >= chunkSize);
+        return true;
+    }
+
+    /**
+     * Spends one chunk of the run budget after pausing, renewing the lease; false once the run has to stop.
+     */
+    private boolean proceed(Budget budget) {
+        if (budget.remaining-- <= 0) {
+            throttledBy = "chunk budget";
+            return false;
+        }
+        if (isPaused()) {
+            throttledBy = "paused";
+            return false;
+        }
+        if (replicaSet.maxLagMs() > maxReplicaLagMs) {
+            throttledBy = "replica lag";
+            return false;
+        }
+        throttledBy = null;
+        redisTemplate.expire(LEASE_KEY, Duration.ofMillis(leaseMs));
+        try {
+            Thread.sleep(chunkPauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+        return true;
+    }
+
+    private void deleteObjects(List<String> keys) {
+        for (String key : keys) {
+            try {
+                objectStorage.delete(key);
+            } catch (RuntimeException e) {
+                log.warn("Failed to delete object {} of a purged post", key, e);
+            }
+        }
+    }
+
+    private void record(String table, int rows) {
+        if (rows > 0) {
+            purgedRows.computeIfAbsent(table, t -> new AtomicLong()).addAndGet(rows);
+            meterRegistry.counter("post.purge.rows", "table", table).increment(rows);
+        }
+    }
+
+    private boolean isPaused() {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(PAUSED_KEY));
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+
+    private static final class Budget {
+        private int remaining;
+
+        private Budget(int remaining) {
+            this.remaining = remaining;
+        }
+    }
+}
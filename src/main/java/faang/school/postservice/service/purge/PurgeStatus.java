@@ -0,0 +1,17 @@
+package faang.school.postservice.service.purge;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record PurgeStatus(
+        boolean paused,
+        boolean running,
+        String throttledBy,
+        long backlog,
+        long purgedPosts,
+        Map<String, Long> purgedRows,
+        Instant lastRunStartedAt,
+        Instant lastRunFinishedAt,
+        String lastError
+) {
+}
@@ -0,0 +1,41 @@
+package faang.school.postservice.service.resource;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Checks the first bytes of an upload against the signature of its declared content type, so a client
+ * cannot store arbitrary files under an image or video type.
+ */
+public final class MediaTypeSniffer {
+
+    public static final int HEADER_LENGTH = 12;
+
+    private static final Map<String, Predicate<byte[]>> SIGNATURES = Map.of(
+            "image/jpeg", header -> startsWith(header, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF}),
+            "image/png", header -> startsWith(header, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'}),
+            "image/gif", header -> startsWith(header, 0, ascii("GIF87a")) || startsWith(header, 0, ascii("GIF89a")),
+            "image/webp", header -> startsWith(header, 0, ascii("RIFF")) && startsWith(header, 8, ascii("WEBP")),
+            "video/mp4", header -> startsWith(header, 4, ascii("ftyp")),
+            "video/webm", header -> startsWith(header, 0, new byte[]{0x1A, 0x45, (byte) 0xDF, (byte) 0xA3})
+    );
+
+    private MediaTypeSniffer() {
+    }
+
+    public static boolean matches(String contentType, byte[] header) {
+        Predicate<byte[]> signature = SIGNATURES.get(contentType);
+        return signature == null || signature.test(header);
+    }
+
+    private static boolean startsWith(byte[] header, int offset, byte[] prefix) {
+        return header.length >= offset + prefix.length
+                && Arrays.equals(header, offset, offset + prefix.length, prefix, 0, prefix.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
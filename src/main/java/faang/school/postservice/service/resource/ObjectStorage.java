@@ -0,0 +1,69 @@
+package faang.school.postservice.service.resource;
+
+import faang.school.postservice.repository.ResourcePartRepository.UploadedPart;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Thin wrapper over S3 multipart uploads. Part bodies are handed to the SDK as streams of known length,
+ * so no part is ever copied into a heap buffer.
+ */
+@Component
+@RequiredArgsConstructor
+public class ObjectStorage {
+
+    private final S3Client s3Client;
+
+    @Value("${resource.storage.bucket}")
+    private String bucket;
+
+    public String createUpload(String key, String contentType) {
+        return s3Client.createMultipartUpload(builder -> builder.bucket(bucket).key(key).contentType(contentType))
+                .uploadId();
+    }
+
+    public String uploadPart(String key, String uploadId, int partNumber, InputStream body, long length) {
+        return s3Client.uploadPart(
+                builder -> builder.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber).contentLength(length),
+                RequestBody.fromInputStream(body, length)
+        ).eTag();
+    }
+
+    public void completeUpload(String key, String uploadId, List<UploadedPart> parts) {
+        List<CompletedPart> completedParts = parts.stream()
+                .map(part -> CompletedPart.builder().partNumber(part.partNumber()).eTag(part.etag()).build())
+                .toList();
+        s3Client.completeMultipartUpload(builder -> builder.bucket(bucket).key(key).uploadId(uploadId)
+                .multipartUpload(upload -> upload.parts(completedParts)));
+    }
+
+    public void abortUpload(String key, String uploadId) {
+        s3Client.abortMultipartUpload(builder -> builder.bucket(bucket).key(key).uploadId(uploadId));
+    }
+
+    public InputStream open(String key) {
+        return s3Client.getObject(builder -> builder.bucket(bucket).key(key));
+    }
+
+    public void put(String key, byte[] content, String contentType) {
+        s3Client.putObject(builder -> builder.bucket(bucket).key(key).contentType(contentType),
+                RequestBody.fromBytes(content));
+    }
+
+    public void putFile(String key, Path file, String contentType) {
+        s3Client.putObject(builder -> builder.bucket(bucket).key(key).contentType(contentType),
+                RequestBody.fromFile(file));
+    }
+
+    public void delete(String key) {
+        s3Client.deleteObject(builder -> builder.bucket(bucket).key(key));
+    }
+}
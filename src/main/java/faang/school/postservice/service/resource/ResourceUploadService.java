@@ -0,0 +1,171 @@
+package faang.school.postservice.service.resource;
+
+import faang.school.postservice.dto.resource.ResourceDto;
+import faang.school.postservice.dto.resource.UploadRequestDto;
+import faang.school.postservice.dto.resource.UploadSessionDto;
+import faang.school.postservice.dto.resource.UploadedPartDto;
+import faang.school.postservice.event.ResourceUploadedEvent;
+import faang.school.postservice.exception.ConflictException;
+import faang.school.postservice.exception.ForbiddenException;
+import faang.school.postservice.exception.NotFoundException;
+import faang.school.postservice.mapper.ResourceMapper;
+import faang.school.postservice.model.Post;
+import faang.school.postservice.model.Resource;
+import faang.school.postservice.model.ResourceStatus;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.repository.ResourcePartRepository;
+import faang.school.postservice.repository.ResourcePartRepository.UploadedPart;
+import faang.school.postservice.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Resumable uploads on top of S3 multipart uploads. Parts are streamed from the request straight to the
+ * object store without holding a database connection. Storage calls never run inside a transaction: each
+ * database write is a single statement made after the storage call succeeds, and an upload whose row could not
+ * be written is aborted again.
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceUploadService {
+
+    private static final int MAX_PARTS = 10_000;
+
+    private final ResourceRepository resourceRepository;
+    private final ResourcePartRepository resourcePartRepository;
+    private final PostRepository postRepository;
+    private final ResourceMapper resourceMapper;
+    private final ObjectStorage objectStorage;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${resource.upload.part-size}")
+    private long partSize;
+
+    @Value("${resource.upload.max-size}")
+    private long maxSize;
+
+    @Value("${resource.upload.allowed-types}")
+    private List<String> allowedTypes;
+
+    public UploadSessionDto startUpload(long postId, long userId, UploadRequestDto request) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new NotFoundException("Post " + postId + " not found"));
+        if (!Objects.equals(post.getAuthorId(), userId)) {
+            throw new ForbiddenException("Only the author can add resources to post " + postId);
+        }
+        if (!allowedTypes.contains(request.getContentType())) {
+            throw new IllegalArgumentException("Content type " + request.getContentType() + " is not allowed");
+        }
+        if (request.getSize() > maxSize) {
+            throw new IllegalArgumentException("Resource must be at most " + maxSize + " bytes");
+        }
+        UploadPlan plan = new UploadPlan(request.getSize(), partSize);
+        if (plan.partCount() > MAX_PARTS) {
+            throw new IllegalArgumentException("Resource needs more than " + MAX_PARTS + " parts");
+        }
+        String key = "posts/" + postId + "/" + UUID.randomUUID();
+        String uploadId = objectStorage.createUpload(key, request.getContentType());
+        Resource resource;
+        try {
+            resource = resourceRepository.save(Resource.builder()
+                    .post(post)
+                    .name(request.getName())
+                    .key(key)
+                    .type(request.getContentType())
+                    .size(request.getSize())
+                    .status(ResourceStatus.UPLOADING)
+                    .uploadId(uploadId)
+                    .build());
+        } catch (RuntimeException e) {
+            objectStorage.abortUpload(key, uploadId);
+            throw e;
+        }
+        return new UploadSessionDto(resource.getId(), partSize, plan.partCount(), List.of());
+    }
+
+    public UploadSessionDto getUploadSession(long resourceId, long userId) {
+        Resource resource = getUploading(resourceId, userId);
+        List<Integer> uploaded = resourcePartRepository.findAll(resourceId).stream()
+                .map(UploadedPart::partNumber)
+                .toList();
+        return new UploadSessionDto(resourceId, partSize, plan(resource).partCount(), uploaded);
+    }
+
+    public UploadedPartDto uploadPart(long resourceId, long userId, int partNumber, long contentLength, InputStream body)
+            throws IOException {
+        Resource resource = getUploading(resourceId, userId);
+        long expected = plan(resource).partLength(partNumber);
+        if (contentLength != expected) {
+            throw new IllegalArgumentException("Part " + partNumber + " must be exactly " + expected + " bytes");
+        }
+        InputStream in = body;
+        if (partNumber == 1) {
+            PushbackInputStream pushback = new PushbackInputStream(body, MediaTypeSniffer.HEADER_LENGTH);
+            byte[] header = pushback.readNBytes(MediaTypeSniffer.HEADER_LENGTH);
+            if (!MediaTypeSniffer.matches(resource.getType(), header)) {
+                throw new IllegalArgumentException("Content does not match declared type " + resource.getType());
+            }
+            pushback.unread(header);
+            in = pushback;
+        }
+        String etag = objectStorage.uploadPart(resource.getKey(), resource.getUploadId(), partNumber, in, expected);
+        resourcePartRepository.save(resourceId, new UploadedPart(partNumber, etag, expected));
+        return new UploadedPartDto(partNumber, expected);
+    }
+
+    public ResourceDto completeUpload(long resourceId, long userId) {
+        Resource resource = getUploading(resourceId, userId);
+        List<UploadedPart> parts = resourcePartRepository.findAll(resourceId);
+        int partCount = plan(resource).partCount();
+        if (parts.size() != partCount) {
+            throw new ConflictException("Upload " + resourceId + " has " + parts.size() + " of " + partCount + " parts");
+        }
+        objectStorage.completeUpload(resource.getKey(), resource.getUploadId(), parts);
+        if (resourceRepository.markUploaded(resourceId) == 0) {
+            throw new ConflictException("Resource " + resourceId + " is not being uploaded");
+        }
+        resource.setStatus(ResourceStatus.PROCESSING);
+        resource.setUploadId(null);
+        eventPublisher.publishEvent(new ResourceUploadedEvent(resourceId));
+        return resourceMapper.toDto(resource);
+    }
+
+    public void abortUpload(long resourceId, long userId) {
+        Resource resource = getUploading(resourceId, userId);
+        if (resourceRepository.deleteUploading(resourceId) == 0) {
+            throw new ConflictException("Resource " + resourceId + " is not being uploaded");
+        }
+        objectStorage.abortUpload(resource.getKey(), resource.getUploadId());
+    }
+
+    public ResourceDto getResource(long resourceId) {
+        return resourceRepository.findWithPostById(resourceId)
+                .map(resourceMapper::toDto)
+                .orElseThrow(() -> new NotFoundException("Resource " + resourceId + " not found"));
+    }
+
+    private Resource getUploading(long resourceId, long userId) {
+        Resource resource = resourceRepository.findWithPostById(resourceId)
+                .orElseThrow(() -> new NotFoundException("Resource " + resourceId + " not found"));
+        if (!Objects.equals(resource.getPost().getAuthorId(), userId)) {
+            throw new ForbiddenException("Only the author can upload resource " + resourceId);
+        }
+        if (resource.getStatus() != ResourceStatus.UPLOADING) {
+            throw new ConflictException("Resource " + resourceId + " is not being uploaded");
+        }
+        return resource;
+    }
+
+    private UploadPlan plan(Resource resource) {
+        return new UploadPlan(resource.getSize(), partSize);
+    }
+}
@@ -0,0 +1,62 @@
+package faang.school.postservice.service.resource;
+
+import faang.school.postservice.model.Resource;
+import faang.school.postservice.model.ResourceStatus;
+import faang.school.postservice.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Aborts uploads that have not received a part within the expiry and retries previews whose processing was lost, for example
+ * because the instance stopped while the event was queued.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceUploadSweeper {
+
+    private final ResourceRepository resourceRepository;
+    private final ObjectStorage objectStorage;
+    private final ThumbnailGenerator thumbnailGenerator;
+
+    @Value("${resource.upload.expiry-hours}")
+    private long expiryHours;
+
+    @Value("${resource.thumbnail.retry-after-minutes}")
+    private long retryAfterMinutes;
+
+    @Value("${resource.sweeper.batch-size}")
+    private int batchSize;
+
+    @Scheduled(cron = "${resource.sweeper.cron}")
+    public void sweep() {
+        LocalDateTime expiredBefore = LocalDateTime.now().minusHours(expiryHours);
+        List<Resource> expired = resourceRepository.findByStatusAndUpdatedAtBefore(ResourceStatus.UPLOADING,
+                expiredBefore, PageRequest.of(0, batchSize));
+        expired.forEach(resource -> abort(resource, expiredBefore));
+
+        resourceRepository.findByStatusAndUpdatedAtBefore(ResourceStatus.PROCESSING,
+                        LocalDateTime.now().minusMinutes(retryAfterMinutes), PageRequest.of(0, batchSize))
+                .forEach(resource -> thumbnailGenerator.retry(resource.getId()));
+    }
+
+    private void abort(Resource resource, LocalDateTime expiredBefore) {
+        try {
+            // a part received since the select touched the resource and keeps the upload alive
+            if (resourceRepository.deleteUploadingUpdatedBefore(resource.getId(), expiredBefore) == 0) {
+                return;
+            }
+            objectStorage.abortUpload(resource.getKey(), resource.getUploadId());
+            log.info("Aborted expired upload of resource {}", resource.getId());
+        } catch (RuntimeException e) {
+            log.warn("Failed to abort expired upload of resource {}", resource.getId(), e);
+        }
+    }
+}
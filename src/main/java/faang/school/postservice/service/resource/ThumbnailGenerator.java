@@ -0,0 +1,116 @@
+package faang.school.postservice.service.resource;
+
+import faang.school.postservice.event.ResourceUploadedEvent;
+import faang.school.postservice.model.Resource;
+import faang.school.postservice.model.ResourceStatus;
+import faang.school.postservice.repository.ResourceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Produces previews for completed uploads and moves them from PROCESSING to READY or FAILED. Images are
+ * decoded with source subsampling on both dimensions, so a large original never has to fit in memory at full
+ * resolution, and images over the pixel limit are rejected before decoding. Previews fit in a square of the
+ * thumbnail width. Types ImageIO cannot read are marked READY without a thumbnail.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ThumbnailGenerator {
+
+    private final ResourceRepository resourceRepository;
+    private final ObjectStorage objectStorage;
+
+    @Value("${resource.thumbnail.width}")
+    private int thumbnailWidth;
+
+    @Value("${resource.thumbnail.max-pixels}")
+    private long maxPixels;
+
+    @Async("thumbnailExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onResourceUploaded(ResourceUploadedEvent event) {
+        process(event.resourceId());
+    }
+
+    @Async("thumbnailExecutor")
+    public void retry(long resourceId) {
+        process(resourceId);
+    }
+
+    private void process(long resourceId) {
+        Resource resource = resourceRepository.findById(resourceId).orElse(null);
+        if (resource == null || resource.getStatus() != ResourceStatus.PROCESSING) {
+            return;
+        }
+        try {
+            String thumbnailKey = resource.getType().startsWith("image/") ? createThumbnail(resource.getKey()) : null;
+            resourceRepository.markProcessed(resourceId, ResourceStatus.READY, thumbnailKey);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to process resource {}", resourceId, e);
+            resourceRepository.markProcessed(resourceId, ResourceStatus.FAILED, null);
+        }
+    }
+
+    private String createThumbnail(String key) throws IOException {
+        try (InputStream in = objectStorage.open(key);
+             ImageInputStream images = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(images);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(images, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxPixels) {
+                    throw new IllegalArgumentException("Image " + key + " has more than " + maxPixels + " pixels");
+                }
+                int step = Math.max(1, Math.max(width, height) / thumbnailWidth);
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage thumbnail = scale(reader.read(0, param));
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                ImageIO.write(thumbnail, "jpg", out);
+                String thumbnailKey = key + ".thumbnail.jpg";
+                objectStorage.put(thumbnailKey, out.toByteArray(), "image/jpeg");
+                return thumbnailKey;
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage scale(BufferedImage source) {
+        double ratio = Math.min(1, (double) thumbnailWidth / Math.max(source.getWidth(), source.getHeight()));
+        int width = Math.max(1, (int) (source.getWidth() * ratio));
+        int height = Math.max(1, (int) (source.getHeight() * ratio));
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+}
@@ -0,0 +1,18 @@
+package faang.school.postservice.service.resource;
+
+/**
+ * Splits a declared upload size into fixed-size parts; only the last part may be shorter.
+ */
+public record UploadPlan(long size, long partSize) {
+
+    public int partCount() {
+        return (int) ((size + partSize - 1) / partSize);
+    }
+
+    public long partLength(int partNumber) {
+        if (partNumber < 1 || partNumber > partCount()) {
+            throw new IllegalArgumentException("Part number must be between 1 and " + partCount());
+        }
+        return partNumber < partCount() ? partSize : size - partSize * (partCount() - 1);
+    }
+}
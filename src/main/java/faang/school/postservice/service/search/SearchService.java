@@ -0,0 +1,71 @@
+package faang.school.postservice.service.search;
+
+import faang.school.postservice.dto.page.Cursor;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.search.CommentSearchHitDto;
+import faang.school.postservice.dto.search.CommentSearchQuery;
+import faang.school.postservice.dto.search.PostSearchHitDto;
+import faang.school.postservice.dto.search.PostSearchQuery;
+import faang.school.postservice.repository.SearchRepository;
+import faang.school.postservice.service.enrichment.EnrichmentService;
+import faang.school.postservice.service.page.CursorPages;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    private final SearchRepository searchRepository;
+    private final EnrichmentService enrichmentService;
+
+    @Value("${pagination.max-page-size}")
+    private int maxPageSize;
+
+    @Value("${search.max-query-length}")
+    private int maxQueryLength;
+
+    @Value("${search.headline-options}")
+    private String headlineOptions;
+
+    @Transactional(readOnly = true)
+    public CursorPage<PostSearchHitDto> searchPosts(PostSearchQuery query, String cursorToken, int size) {
+        validateText(query.text());
+        if (query.publishedFrom() != null && query.publishedTo() != null
+                && !query.publishedFrom().isBefore(query.publishedTo())) {
+            throw new IllegalArgumentException("publishedFrom must be before publishedTo");
+        }
+        int limit = CursorPages.limit(size, maxPageSize).getPageSize();
+        Cursor cursor = cursorToken == null ? null : Cursor.decode(cursorToken);
+        List<PostSearchHitDto> hits = searchRepository.searchPosts(query, cursor, limit, headlineOptions);
+        return CursorPages.toPage(hits, size, hit -> Cursor.of(hit.rank(), hit.post().getId()), page -> {
+            enrichmentService.enrichPosts(page.stream().map(PostSearchHitDto::post).toList());
+            return page;
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<CommentSearchHitDto> searchComments(CommentSearchQuery query, String cursorToken, int size) {
+        validateText(query.text());
+        int limit = CursorPages.limit(size, maxPageSize).getPageSize();
+        Cursor cursor = cursorToken == null ? null : Cursor.decode(cursorToken);
+        List<CommentSearchHitDto> hits = searchRepository.searchComments(query, cursor, limit, headlineOptions);
+        return CursorPages.toPage(hits, size, hit -> Cursor.of(hit.rank(), hit.comment().getId()), page -> {
+            enrichmentService.enrichComments(page.stream().map(CommentSearchHitDto::comment).toList());
+            return page;
+        });
+    }
+
+    private void validateText(String text) {
+        if (text == null || text.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (text.length() > maxQueryLength) {
+            throw new IllegalArgumentException("Search query must be at most " + maxQueryLength + " characters");
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package faang.school.postservice.service.trending;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.DoubleAdder;
+
+/**
+ * Coalesces engagement into forward-decayed deltas per post and flushes them to Redis in one pipeline,
+ * so a hot post costs one ZINCRBY per flush instead of one per event.
+ */
+@Slf4j
+@Component
+public class TrendingBuffer {
+
+    private final TrendingStore trendingStore;
+    private final Counter recorded;
+    private final int maxPending;
+    private final AtomicReference<Map<ScoreKey, DoubleAdder>> active = new AtomicReference<>(new ConcurrentHashMap<>());
+    private volatile Map<ScoreKey, DoubleAdder> retired = new ConcurrentHashMap<>();
+
+    public TrendingBuffer(TrendingStore trendingStore, MeterRegistry meterRegistry,
+                          @Value("${trending.buffer.max-pending}") int maxPending) {
+        this.trendingStore = trendingStore;
+        this.recorded = meterRegistry.counter("trending.events");
+        this.maxPending = maxPending;
+    }
+
+    public void record(long postId, Long projectId, double weight, long eventMillis) {
+        long now = System.currentTimeMillis();
+        Map<ScoreKey, DoubleAdder> buffer = active.get();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            long epoch = window.epoch(now);
+            double delta = window.forward(weight, Math.min(eventMillis, now), epoch);
+            add(buffer, new ScoreKey(new SetKey(window, epoch, TrendingWindow.scope(null)), postId), delta);
+            if (projectId != null) {
+                add(buffer, new ScoreKey(new SetKey(window, epoch, TrendingWindow.scope(projectId)), postId), delta);
+            }
+        }
+        recorded.increment();
+        if (buffer.size() > maxPending) {
+            flush();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trending.buffer.flush-interval-ms}")
+    @PreDestroy
+    public synchronized void flush() {
+        Map<ScoreKey, DoubleAdder> swapped = active.getAndSet(new ConcurrentHashMap<>());
+        Map<ScoreKey, Double> deltas = new HashMap<>();
+        drain(retired, deltas);
+        drain(swapped, deltas);
+        retired = swapped;
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            trendingStore.apply(deltas);
+        } catch (RuntimeException e) {
+            log.error("Failed to flush {} trending deltas, will retry", deltas.size(), e);
+            Map<ScoreKey, DoubleAdder> buffer = active.get();
+            deltas.forEach((key, delta) -> add(buffer, key, delta));
+        }
+    }
+
+    private static void add(Map<ScoreKey, DoubleAdder> buffer, ScoreKey key, double delta) {
+        buffer.computeIfAbsent(key, k -> new DoubleAdder()).add(delta);
+    }
+
+    private static void drain(Map<ScoreKey, DoubleAdder> buffer, Map<ScoreKey, Double> deltas) {
+        buffer.forEach((key, adder) -> {
+            double sum = adder.sum();
+            if (sum != 0) {
+                adder.add(-sum);
+                deltas.merge(key, sum, Double::sum);
+            }
+        });
+    }
+
+    public record SetKey(TrendingWindow window, long epoch, String scope) {
+        public String key() {
+            return window.key(epoch, scope);
+        }
+    }
+
+    public record ScoreKey(SetKey set, long postId) {
+    }
+}
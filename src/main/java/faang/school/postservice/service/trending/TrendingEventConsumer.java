@@ -0,0 +1,140 @@
+package faang.school.postservice.service.trending;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import faang.school.postservice.dto.post.PostProject;
+import faang.school.postservice.event.OutboxEventType;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.service.outbox.OutboxStreamConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads engagement events from the outbox stream under its own consumer group and feeds them into
+ * {@link TrendingBuffer}. Records are acknowledged once buffered; a crash loses at most one flush interval
+ * of score, which the ranking tolerates.
+ */
+@Slf4j
+@Component
+public class TrendingEventConsumer implements OutboxStreamConsumer {
+
+    private final StringRedisTemplate redisTemplate;
+    private final TrendingBuffer trendingBuffer;
+    private final TrendingStore trendingStore;
+    private final PostRepository postRepository;
+    private final Cache<Long, PostProject> projects;
+    private final String streamKey;
+    private final Consumer consumer;
+    private final int batchSize;
+    private final Map<OutboxEventType, Double> weights;
+    private volatile boolean pendingDrained;
+
+    public TrendingEventConsumer(StringRedisTemplate redisTemplate, TrendingBuffer trendingBuffer,
+                                 TrendingStore trendingStore, PostRepository postRepository,
+                                 @Value("${outbox.stream.key}") String streamKey,
+                                 @Value("${trending.consumer.group}") String group,
+                                 @Value("${trending.consumer.name}") String consumerName,
+                                 @Value("${trending.consumer.batch-size}") int batchSize,
+                                 @Value("${trending.consumer.project-cache-size}") long projectCacheSize,
+                                 @Value("${trending.weights.like}") double likeWeight,
+                                 @Value("${trending.weights.comment}") double commentWeight,
+                                 @Value("${trending.weights.comment-like}") double commentLikeWeight) {
+        this.redisTemplate = redisTemplate;
+        this.trendingBuffer = trendingBuffer;
+        this.trendingStore = trendingStore;
+        this.postRepository = postRepository;
+        this.projects = Caffeine.newBuilder()
+                .maximumSize(projectCacheSize)
+                .expireAfterAccess(Duration.ofHours(1))
+                .build();
+        this.streamKey = streamKey;
+        this.consumer = Consumer.from(group, consumerName);
+        this.batchSize = batchSize;
+        this.weights = Map.of(
+                OutboxEventType.POST_LIKED, likeWeight,
+                OutboxEventType.POST_UNLIKED, -likeWeight,
+                OutboxEventType.COMMENT_CREATED, commentWeight,
+                OutboxEventType.COMMENT_DELETED, -commentWeight,
+                OutboxEventType.COMMENT_LIKED, commentLikeWeight);
+    }
+
+    @Override
+    public String group() {
+        return consumer.getGroup();
+    }
+
+    @Scheduled(fixedDelayString = "${trending.consumer.poll-interval-ms}")
+    public void poll() {
+        try {
+            List<MapRecord<String, Object, Object>> records;
+            do {
+                ReadOffset offset = pendingDrained ? ReadOffset.lastConsumed() : ReadOffset.from("0");
+                records = redisTemplate.opsForStream().read(consumer, StreamReadOptions.empty().count(batchSize),
+                        StreamOffset.create(streamKey, offset));
+                if (records == null || records.isEmpty()) {
+                    pendingDrained = true;
+                    return;
+                }
+                handle(records);
+                redisTemplate.opsForStream().acknowledge(streamKey, consumer.getGroup(),
+                        records.stream().map(MapRecord::getId).toArray(RecordId[]::new));
+            } while (records.size() == batchSize);
+        } catch (DataAccessException e) {
+            log.warn("Failed to read trending events from {}", streamKey, e);
+        }
+    }
+
+    private void handle(List<MapRecord<String, Object, Object>> records) {
+        resolveProjects(records);
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> fields = record.getValue();
+            OutboxEventType type = OutboxEventType.valueOf((String) fields.get("type"));
+            Object postIdField = fields.get("postId");
+            if (postIdField == null) {
+                continue;
+            }
+            long postId = Long.parseLong((String) postIdField);
+            PostProject post = projects.getIfPresent(postId);
+            if (type == OutboxEventType.POST_DELETED) {
+                trendingStore.remove(postId, post == null ? null : post.projectId(), System.currentTimeMillis());
+                projects.invalidate(postId);
+                continue;
+            }
+            Double weight = weights.get(type);
+            if (weight == null || post == null) {
+                continue;
+            }
+            trendingBuffer.record(postId, post.projectId(), weight, Long.parseLong((String) fields.get("occurredAt")));
+        }
+    }
+
+    private void resolveProjects(List<MapRecord<String, Object, Object>> records) {
+        Set<Long> missing = new HashSet<>();
+        records.forEach(record -> {
+            Object postId = record.getValue().get("postId");
+            if (postId != null) {
+                missing.add(Long.parseLong((String) postId));
+            }
+        });
+        missing.removeAll(projects.getAllPresent(missing).keySet());
+        if (!missing.isEmpty()) {
+            postRepository.findProjects(missing).forEach(post -> projects.put(post.id(), post));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package faang.school.postservice.service.trending;
+
+import faang.school.postservice.dto.trending.TrendingPostDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+public class TrendingService {
+
+    private final TrendingStore trendingStore;
+    private final TrendingBuffer trendingBuffer;
+    private final double viewWeight;
+    private final int maxLimit;
+    private final Map<TrendingWindow, Long> rolledEpochs = new ConcurrentHashMap<>();
+
+    public TrendingService(TrendingStore trendingStore, TrendingBuffer trendingBuffer,
+                           @Value("${trending.weights.view}") double viewWeight,
+                           @Value("${trending.max-limit}") int maxLimit) {
+        this.trendingStore = trendingStore;
+        this.trendingBuffer = trendingBuffer;
+        this.viewWeight = viewWeight;
+        this.maxLimit = maxLimit;
+    }
+
+    public List<TrendingPostDto> getTrending(String windowName, Long projectId, int limit) {
+        TrendingWindow window = TrendingWindow.of(windowName);
+        if (limit < 1 || limit > maxLimit) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + maxLimit);
+        }
+        long now = System.currentTimeMillis();
+        long epoch = window.epoch(now);
+        // until the previous epoch is merged, the current one only holds the scores since the boundary
+        long landmark = isRolled(window, epoch) ? epoch : epoch - 1;
+        Set<TypedTuple<String>> top = trendingStore.top(window, landmark, TrendingWindow.scope(projectId), limit);
+        if (top == null) {
+            return List.of();
+        }
+        return top.stream()
+                .map(tuple -> new TrendingPostDto(Long.parseLong(tuple.getValue()),
+                        window.decayed(tuple.getScore(), now, landmark)))
+                .toList();
+    }
+
+    public void recordView(long postId, Long projectId) {
+        trendingBuffer.record(postId, projectId, viewWeight, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${trending.roll-check-ms}")
+    public void roll() {
+        long now = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            try {
+                trendingStore.roll(window, window.epoch(now));
+            } catch (DataAccessException e) {
+                log.warn("Failed to roll {} trending window", window, e);
+            }
+        }
+    }
+
+    private boolean isRolled(TrendingWindow window, long epoch) {
+        Long rolled = rolledEpochs.get(window);
+        if (rolled != null && rolled >= epoch) {
+            return true;
+        }
+        if (trendingStore.isRolled(window, epoch)) {
+            rolledEpochs.merge(window, epoch, Math::max);
+            return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,127 @@
+package faang.school.postservice.service.trending;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Redis side of the trending engine: one sorted set per window, epoch and scope, each capped at {@code maxSize}
+ * members and expiring two epochs after its last write.
+ */
+@Slf4j
+@Component
+public class TrendingStore {
+
+    private static final RedisScript<Long> MERGE_SCRIPT = RedisScript.of("""
+            if redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then
+                return 0
+            end
+            redis.call('ZUNIONSTORE', KEYS[1], 2, KEYS[1], KEYS[2], 'WEIGHTS', 1, ARGV[2], 'AGGREGATE', 'SUM')
+            redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -tonumber(ARGV[3]) - 1)
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('SADD', KEYS[3], ARGV[1])
+            redis.call('PEXPIRE', KEYS[3], ARGV[4])
+            redis.call('SADD', KEYS[4], ARGV[1])
+            redis.call('PEXPIRE', KEYS[4], ARGV[4])
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final long maxSize;
+
+    public TrendingStore(StringRedisTemplate redisTemplate,
+                         @Value("${trending.max-size}") long maxSize) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+    }
+
+    public void apply(Map<TrendingBuffer.ScoreKey, Double> deltas) {
+        Set<TrendingBuffer.SetKey> touched = new HashSet<>();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            deltas.forEach((scoreKey, delta) -> {
+                connection.zSetCommands().zIncrBy(bytes(scoreKey.set().key()), delta,
+                        bytes(String.valueOf(scoreKey.postId())));
+                touched.add(scoreKey.set());
+            });
+            touched.forEach(setKey -> {
+                TrendingWindow window = setKey.window();
+                byte[] key = bytes(setKey.key());
+                byte[] scopesKey = bytes(window.scopesKey(setKey.epoch()));
+                long ttlSeconds = Duration.ofMillis(window.epochMillis() * 2).toSeconds();
+                connection.zSetCommands().zRemRangeByScore(key, Double.NEGATIVE_INFINITY, 0);
+                connection.zSetCommands().zRemRange(key, 0, -maxSize - 1);
+                connection.keyCommands().expire(key, ttlSeconds);
+                connection.setCommands().sAdd(scopesKey, bytes(setKey.scope()));
+                connection.keyCommands().expire(scopesKey, ttlSeconds);
+            });
+            return null;
+        });
+    }
+
+    /**
+     * Carries the previous epoch into the current one, rescaled to the new landmark. Each scope is merged by one
+     * script that records it as merged, so a repeated or concurrent roll never adds a scope twice; the marker
+     * readers wait for is set only once every scope has been merged. Late increments to the previous epoch after
+     * its scope was merged are dropped.
+     */
+    public void roll(TrendingWindow window, long epoch) {
+        String marker = rolledKey(window, epoch);
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(marker))) {
+            return;
+        }
+        long ttlMillis = window.epochMillis() * 2;
+        Set<String> scopes = redisTemplate.opsForSet().members(window.scopesKey(epoch - 1));
+        if (scopes != null) {
+            String weight = String.valueOf(Math.pow(2, -TrendingWindow.EPOCH_HALF_LIVES));
+            for (String scope : scopes) {
+                redisTemplate.execute(MERGE_SCRIPT,
+                        List.of(window.key(epoch, scope), window.key(epoch - 1, scope),
+                                window.key(epoch, "merged"), window.scopesKey(epoch)),
+                        scope, weight, String.valueOf(maxSize), String.valueOf(ttlMillis));
+            }
+            log.info("Rolled {} {} trending scopes into epoch {}", scopes.size(), window, epoch);
+        }
+        redisTemplate.opsForValue().set(marker, "1", Duration.ofMillis(ttlMillis));
+    }
+
+    public boolean isRolled(TrendingWindow window, long epoch) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(rolledKey(window, epoch)));
+    }
+
+    public Set<TypedTuple<String>> top(TrendingWindow window, long epoch, String scope, int limit) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(window.key(epoch, scope), 0, limit - 1);
+    }
+
+    public void remove(long postId, Long projectId, long nowMillis) {
+        byte[] member = bytes(String.valueOf(postId));
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (TrendingWindow window : TrendingWindow.values()) {
+                long epoch = window.epoch(nowMillis);
+                connection.zSetCommands().zRem(bytes(window.key(epoch, TrendingWindow.scope(null))), member);
+                if (projectId != null) {
+                    connection.zSetCommands().zRem(bytes(window.key(epoch, TrendingWindow.scope(projectId))), member);
+                }
+            }
+            return null;
+        });
+    }
+
+    private static String rolledKey(TrendingWindow window, long epoch) {
+        return window.key(epoch, "rolled");
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,58 @@
+package faang.school.postservice.service.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+/**
+ * Forward-decayed scoring window. An event at time {@code t} adds {@code weight * 2^((t - landmark) / halfLife)},
+ * so stored scores never need rewriting and dividing by {@code 2^((now - landmark) / halfLife)} yields the score
+ * decayed to now. The landmark moves every {@link #EPOCH_HALF_LIVES} half-lives to keep the factors in double range.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+    HOUR(Duration.ofHours(1)),
+    DAY(Duration.ofDays(1));
+
+    public static final int EPOCH_HALF_LIVES = 16;
+
+    private final Duration halfLife;
+
+    public long epoch(long epochMillis) {
+        return epochMillis / epochMillis();
+    }
+
+    public long epochMillis() {
+        return halfLife.toMillis() * EPOCH_HALF_LIVES;
+    }
+
+    public double forward(double weight, long eventMillis, long epoch) {
+        return weight * Math.pow(2, (eventMillis - epoch * epochMillis()) / (double) halfLife.toMillis());
+    }
+
+    public double decayed(double score, long nowMillis, long epoch) {
+        return score / Math.pow(2, (nowMillis - epoch * epochMillis()) / (double) halfLife.toMillis());
+    }
+
+    public String key(long epoch, String scope) {
+        return "trending:" + name().toLowerCase() + ":" + epoch + ":" + scope;
+    }
+
+    public String scopesKey(long epoch) {
+        return "trending:" + name().toLowerCase() + ":" + epoch + ":scopes";
+    }
+
+    public static TrendingWindow of(String name) {
+        try {
+            return valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown trending window " + name);
+        }
+    }
+
+    public static String scope(Long projectId) {
+        return projectId == null ? "global" : "project:" + projectId;
+    }
+}
@@ -0,0 +1,26 @@
+CREATE TABLE post_counter (
+    post_id bigint PRIMARY KEY,
+    like_count bigint DEFAULT 0 NOT NULL,
+    comment_count bigint DEFAULT 0 NOT NULL,
+    updated_at timestamptz DEFAULT current_timestamp,
+
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE
+);
+
+CREATE TABLE comment_counter (
+    comment_id bigint PRIMARY KEY,
+    like_count bigint DEFAULT 0 NOT NULL,
+    updated_at timestamptz DEFAULT current_timestamp,
+
+    CONSTRAINT fk_comment_id FOREIGN KEY (comment_id) REFERENCES comment (id) ON DELETE CASCADE
+);
+
+INSERT INTO post_counter (post_id, like_count)
+SELECT post_id, count(*) FROM likes WHERE post_id IS NOT NULL GROUP BY post_id;
+
+INSERT INTO post_counter (post_id, comment_count)
+SELECT post_id, count(*) FROM comment GROUP BY post_id
+ON CONFLICT (post_id) DO UPDATE SET comment_count = EXCLUDED.comment_count;
+
+INSERT INTO comment_counter (comment_id, like_count)
+SELECT comment_id, count(*) FROM likes WHERE comment_id IS NOT NULL GROUP BY comment_id;
@@ -0,0 +1,9 @@
+CREATE INDEX post_author_created_idx ON post (author_id, created_at DESC, id DESC);
+
+CREATE INDEX post_project_created_idx ON post (project_id, created_at DESC, id DESC);
+
+CREATE INDEX comment_post_created_idx ON comment (post_id, created_at, id);
+
+CREATE INDEX likes_post_created_idx ON likes (post_id, created_at DESC, id DESC);
+
+CREATE INDEX likes_comment_created_idx ON likes (comment_id, created_at DESC, id DESC);
@@ -0,0 +1,19 @@
+CREATE SEQUENCE post_seq INCREMENT BY 50;
+SELECT setval('post_seq', (SELECT coalesce(max(id), 0) + 1 FROM post));
+ALTER TABLE post ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE post ALTER COLUMN id SET DEFAULT nextval('post_seq');
+
+CREATE SEQUENCE comment_seq INCREMENT BY 50;
+SELECT setval('comment_seq', (SELECT coalesce(max(id), 0) + 1 FROM comment));
+ALTER TABLE comment ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE comment ALTER COLUMN id SET DEFAULT nextval('comment_seq');
+
+CREATE SEQUENCE likes_seq INCREMENT BY 50;
+SELECT setval('likes_seq', (SELECT coalesce(max(id), 0) + 1 FROM likes));
+ALTER TABLE likes ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE likes ALTER COLUMN id SET DEFAULT nextval('likes_seq');
+
+CREATE SEQUENCE post_album_seq INCREMENT BY 50;
+SELECT setval('post_album_seq', (SELECT coalesce(max(id), 0) + 1 FROM post_album));
+ALTER TABLE post_album ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE post_album ALTER COLUMN id SET DEFAULT nextval('post_album_seq');
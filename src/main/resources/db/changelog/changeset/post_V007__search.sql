@@ -0,0 +1,9 @@
+ALTER TABLE post ADD COLUMN content_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', content)) STORED;
+
+CREATE INDEX post_content_tsv_idx ON post USING GIN (content_tsv) WHERE published = true AND deleted = false;
+
+ALTER TABLE comment ADD COLUMN content_tsv tsvector
+    GENERATED ALWAYS AS (to_tsvector('simple', content)) STORED;
+
+CREATE INDEX comment_content_tsv_idx ON comment USING GIN (content_tsv);
@@ -0,0 +1,8 @@
+CREATE TABLE outbox_event (
+    id bigint PRIMARY KEY GENERATED ALWAYS AS IDENTITY,
+    event_type varchar(32) NOT NULL,
+    aggregate_id bigint NOT NULL,
+    actor_id bigint,
+    post_id bigint,
+    created_at timestamptz DEFAULT current_timestamp NOT NULL
+);
@@ -0,0 +1,16 @@
+ALTER TABLE post_resource ADD COLUMN upload_id varchar(1024);
+ALTER TABLE post_resource ADD COLUMN thumbnail_key varchar(255);
+
+CREATE INDEX post_resource_post_idx ON post_resource (post_id);
+CREATE INDEX post_resource_status_updated_idx ON post_resource (status, updated_at)
+    WHERE status IN ('UPLOADING', 'PROCESSING');
+
+CREATE TABLE post_resource_part (
+    resource_id bigint NOT NULL,
+    part_number int NOT NULL,
+    etag varchar(255) NOT NULL,
+    size bigint NOT NULL,
+
+    PRIMARY KEY (resource_id, part_number),
+    CONSTRAINT fk_resource_id FOREIGN KEY (resource_id) REFERENCES post_resource (id) ON DELETE CASCADE
+);
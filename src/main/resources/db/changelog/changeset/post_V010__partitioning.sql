@@ -0,0 +1,105 @@
+--liquibase formatted sql
+
+--changeset post-service:post_V010_likes_hash_partitions
+CREATE TABLE likes_partitioned (
+    id bigint NOT NULL DEFAULT nextval('likes_seq'),
+    post_id bigint,
+    comment_id bigint,
+    user_id bigint NOT NULL,
+    created_at timestamptz DEFAULT current_timestamp,
+    updated_at timestamptz DEFAULT current_timestamp,
+
+    PRIMARY KEY (id, user_id),
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE
+) PARTITION BY HASH (user_id);
+
+CREATE TABLE likes_p00 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 0);
+CREATE TABLE likes_p01 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 1);
+CREATE TABLE likes_p02 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 2);
+CREATE TABLE likes_p03 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 3);
+CREATE TABLE likes_p04 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 4);
+CREATE TABLE likes_p05 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 5);
+CREATE TABLE likes_p06 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 6);
+CREATE TABLE likes_p07 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 7);
+CREATE TABLE likes_p08 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 8);
+CREATE TABLE likes_p09 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 9);
+CREATE TABLE likes_p10 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 10);
+CREATE TABLE likes_p11 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 11);
+CREATE TABLE likes_p12 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 12);
+CREATE TABLE likes_p13 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 13);
+CREATE TABLE likes_p14 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 14);
+CREATE TABLE likes_p15 PARTITION OF likes_partitioned FOR VALUES WITH (MODULUS 16, REMAINDER 15);
+
+ALTER TABLE likes_partitioned ADD CONSTRAINT likes_post_user_key UNIQUE (post_id, user_id);
+ALTER TABLE likes_partitioned ADD CONSTRAINT likes_comment_user_key UNIQUE (comment_id, user_id);
+
+DELETE FROM likes a USING likes b
+WHERE a.user_id = b.user_id
+  AND (a.post_id = b.post_id OR a.comment_id = b.comment_id)
+  AND a.id > b.id;
+
+INSERT INTO likes_partitioned (id, post_id, comment_id, user_id, created_at, updated_at)
+SELECT id, post_id, comment_id, user_id, created_at, updated_at FROM likes
+ORDER BY id;
+
+DROP TABLE likes;
+ALTER TABLE likes_partitioned RENAME TO likes;
+ALTER TABLE likes RENAME CONSTRAINT likes_partitioned_pkey TO likes_pkey;
+
+CREATE INDEX likes_post_created_idx ON likes (post_id, created_at DESC, id DESC);
+CREATE INDEX likes_comment_created_idx ON likes (comment_id, created_at DESC, id DESC);
+
+UPDATE post_counter pc SET like_count = l.like_count, updated_at = current_timestamp
+FROM (SELECT post_id, count(*) AS like_count FROM likes WHERE post_id IS NOT NULL GROUP BY post_id) l
+WHERE pc.post_id = l.post_id AND pc.like_count <> l.like_count;
+
+UPDATE comment_counter cc SET like_count = l.like_count, updated_at = current_timestamp
+FROM (SELECT comment_id, count(*) AS like_count FROM likes WHERE comment_id IS NOT NULL GROUP BY comment_id) l
+WHERE cc.comment_id = l.comment_id AND cc.like_count <> l.like_count;
+
+--changeset post-service:post_V010_monthly_partition_function splitStatements:false
+CREATE OR REPLACE FUNCTION create_monthly_partition(parent regclass, prefix text, month date) RETURNS text AS $$
+DECLARE
+    start_at timestamptz := date_trunc('month', month)::timestamp AT TIME ZONE 'UTC';
+    partition_name text := prefix || '_' || to_char(date_trunc('month', month), 'YYYY_MM');
+BEGIN
+    EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF %s FOR VALUES FROM (%L) TO (%L)',
+                   partition_name, parent, start_at, start_at + interval '1 month');
+    RETURN partition_name;
+END;
+$$ LANGUAGE plpgsql;
+
+--changeset post-service:post_V010_comment_range_partitions
+ALTER TABLE comment_counter DROP CONSTRAINT fk_comment_id;
+
+CREATE TABLE comment_partitioned (
+    id bigint NOT NULL DEFAULT nextval('comment_seq'),
+    content varchar(4096) NOT NULL,
+    author_id bigint NOT NULL,
+    post_id bigint NOT NULL,
+    created_at timestamptz NOT NULL DEFAULT current_timestamp,
+    updated_at timestamptz DEFAULT current_timestamp,
+    content_tsv tsvector GENERATED ALWAYS AS (to_tsvector('simple', content)) STORED,
+
+    PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_post_id FOREIGN KEY (post_id) REFERENCES post (id) ON DELETE CASCADE
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE comment_default PARTITION OF comment_partitioned DEFAULT;
+
+SELECT create_monthly_partition('comment_partitioned', 'comment', month::date)
+FROM generate_series(
+    date_trunc('month', (SELECT coalesce(min(created_at), now()) FROM comment) AT TIME ZONE 'UTC'),
+    date_trunc('month', now() AT TIME ZONE 'UTC') + interval '3 months',
+    interval '1 month') month;
+
+INSERT INTO comment_partitioned (id, content, author_id, post_id, created_at, updated_at)
+SELECT id, content, author_id, post_id, coalesce(created_at, now()), updated_at FROM comment;
+
+DROP TABLE comment;
+ALTER TABLE comment_partitioned RENAME TO comment;
+ALTER TABLE comment RENAME CONSTRAINT comment_partitioned_pkey TO comment_pkey;
+
+CREATE INDEX comment_post_created_idx ON comment (post_id, created_at, id);
+CREATE INDEX comment_id_idx ON comment (id);
+CREATE INDEX comment_content_tsv_idx ON comment USING GIN (content_tsv);
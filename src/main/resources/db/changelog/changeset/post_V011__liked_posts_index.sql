@@ -0,0 +1 @@
+CREATE INDEX likes_user_post_idx ON likes (user_id, post_id) WHERE post_id IS NOT NULL;
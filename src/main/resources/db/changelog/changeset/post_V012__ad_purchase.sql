@@ -0,0 +1,27 @@
+ALTER TABLE post_ad ADD COLUMN status varchar(16) DEFAULT 'ACTIVE' NOT NULL;
+ALTER TABLE post_ad ADD COLUMN amount numeric(19, 2);
+ALTER TABLE post_ad ADD COLUMN currency varchar(3);
+ALTER TABLE post_ad ADD COLUMN duration_days int;
+ALTER TABLE post_ad ADD COLUMN payment_attempts int DEFAULT 0 NOT NULL;
+ALTER TABLE post_ad ADD COLUMN next_attempt_at timestamptz;
+ALTER TABLE post_ad ADD COLUMN failure_reason varchar(255);
+ALTER TABLE post_ad ADD COLUMN created_at timestamptz DEFAULT current_timestamp;
+ALTER TABLE post_ad ADD COLUMN updated_at timestamptz DEFAULT current_timestamp;
+
+WITH ranked AS (
+    SELECT id, post_id,
+           first_value(id) OVER (PARTITION BY post_id ORDER BY end_date DESC, id DESC) AS keep_id,
+           sum(appearances_left) OVER (PARTITION BY post_id) AS total_left,
+           max(end_date) OVER (PARTITION BY post_id) AS last_end,
+           count(*) OVER (PARTITION BY post_id) AS ads
+    FROM post_ad
+)
+UPDATE post_ad a SET appearances_left = r.total_left, end_date = r.last_end
+FROM ranked r
+WHERE a.id = r.id AND r.id = r.keep_id AND r.ads > 1;
+
+DELETE FROM post_ad a USING post_ad b
+WHERE a.post_id = b.post_id AND (a.end_date < b.end_date OR (a.end_date = b.end_date AND a.id < b.id));
+
+CREATE INDEX post_ad_pending_idx ON post_ad (next_attempt_at) WHERE status = 'PENDING';
+CREATE UNIQUE INDEX post_ad_post_open_idx ON post_ad (post_id) WHERE status IN ('PENDING', 'ACTIVE');
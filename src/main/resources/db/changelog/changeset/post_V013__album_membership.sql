@@ -0,0 +1,30 @@
+DELETE FROM post_album a USING post_album b
+WHERE a.album_id = b.album_id AND a.post_id = b.post_id AND a.id > b.id;
+
+ALTER TABLE post_album ADD COLUMN position bigint;
+
+UPDATE post_album pa
+SET position = numbered.position
+FROM (
+    SELECT id, row_number() OVER (PARTITION BY album_id ORDER BY created_at, id) AS position
+    FROM post_album
+) numbered
+WHERE numbered.id = pa.id;
+
+ALTER TABLE post_album ALTER COLUMN position SET NOT NULL;
+
+CREATE UNIQUE INDEX post_album_album_post_idx ON post_album (album_id, post_id);
+CREATE UNIQUE INDEX post_album_album_position_idx ON post_album (album_id, position);
+CREATE INDEX post_album_post_idx ON post_album (post_id);
+
+ALTER TABLE album ADD COLUMN last_position bigint DEFAULT 0 NOT NULL;
+
+UPDATE album a
+SET last_position = counted.last_position
+FROM (SELECT album_id, max(position) AS last_position FROM post_album GROUP BY album_id) counted
+WHERE counted.album_id = a.id;
+
+DELETE FROM favorite_albums a USING favorite_albums b
+WHERE a.user_id = b.user_id AND a.album_id = b.album_id AND a.id > b.id;
+
+CREATE UNIQUE INDEX favorite_albums_user_album_idx ON favorite_albums (user_id, album_id);
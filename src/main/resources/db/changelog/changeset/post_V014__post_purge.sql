@@ -0,0 +1,11 @@
+ALTER TABLE post ADD COLUMN deleted_at timestamptz;
+UPDATE post SET deleted_at = coalesce(updated_at, now()) WHERE deleted = true;
+
+CREATE INDEX post_deleted_at_idx ON post (deleted_at, id) WHERE deleted = true;
+CREATE INDEX post_scheduled_due_idx ON post (scheduled_at) WHERE published = false AND deleted = false;
+
+DROP INDEX post_author_created_idx;
+CREATE INDEX post_author_created_idx ON post (author_id, created_at DESC, id DESC) WHERE deleted = false;
+
+DROP INDEX post_project_created_idx;
+CREATE INDEX post_project_created_idx ON post (project_id, created_at DESC, id DESC) WHERE deleted = false;
@@ -1,3 +1,7 @@
+DROP TABLE post_resource_part;
+DROP TABLE outbox_event;
+DROP TABLE comment_counter;
+DROP TABLE post_counter;
 DROP TABLE post_album;
 DROP TABLE likes;
 DROP TABLE comment;
@@ -5,4 +9,9 @@ DROP TABLE post;
 DROP TABLE favorite_albums;
 DROP INDEX album_author_title_idx;
 DROP TABLE album;
-DROP TABLE post_resource;
\ No newline at end of file
+DROP TABLE post_resource;
+DROP SEQUENCE post_seq;
+DROP SEQUENCE comment_seq;
+DROP SEQUENCE likes_seq;
+DROP SEQUENCE post_album_seq;
+DROP FUNCTION create_monthly_partition;
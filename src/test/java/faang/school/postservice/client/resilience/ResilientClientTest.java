@@ -0,0 +1,153 @@
+package faang.school.postservice.client.resilience;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.RequestLine;
+import feign.Target;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResilientClientTest {
+
+    private static final String CLIENT = "stub-service";
+
+    private final AtomicInteger hits = new AtomicInteger();
+    private final ExecutorService hedgingExecutor = Executors.newCachedThreadPool();
+    private HttpServer server;
+
+    interface StubApi {
+        @RequestLine("GET /value")
+        String getValue();
+    }
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+        hedgingExecutor.shutdownNow();
+    }
+
+    @Test
+    void hedgedRequestReturnsFirstSuccessfulAttempt() {
+        server.createContext("/value", exchange -> {
+            if (hits.incrementAndGet() == 1) {
+                sleep(2000);
+                respond(exchange, 200, "slow");
+            } else {
+                respond(exchange, 200, "fast");
+            }
+        });
+        StubApi api = api(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                new HedgingPolicy(true, Set.of(CLIENT), Duration.ofMillis(50)));
+
+        long start = System.nanoTime();
+        String value = api.getValue();
+
+        assertThat(value).isEqualTo("fast");
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1500));
+        assertThat(hits).hasValue(2);
+    }
+
+    @Test
+    void circuitOpensAfterServerErrors() {
+        server.createContext("/value", exchange -> {
+            hits.incrementAndGet();
+            respond(exchange, 503, "unavailable");
+        });
+        CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .build());
+        StubApi api = api(circuitBreakers, BulkheadRegistry.ofDefaults(), HedgingPolicy.disabled());
+
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(api::getValue).isInstanceOf(FeignException.class);
+        }
+
+        assertThatThrownBy(api::getValue).isInstanceOf(CallNotPermittedException.class);
+        assertThat(hits).hasValue(4);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondLimit() throws Exception {
+        CountDownLatch entered = new CountDownLatch(1);
+        server.createContext("/value", exchange -> {
+            hits.incrementAndGet();
+            entered.countDown();
+            sleep(500);
+            respond(exchange, 200, "ok");
+        });
+        BulkheadRegistry bulkheads = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        StubApi api = api(CircuitBreakerRegistry.ofDefaults(), bulkheads, HedgingPolicy.disabled());
+
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(api::getValue);
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(api::getValue).isInstanceOf(BulkheadFullException.class);
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("ok");
+        assertThat(hits).hasValue(1);
+    }
+
+    private StubApi api(CircuitBreakerRegistry circuitBreakers, BulkheadRegistry bulkheads, HedgingPolicy hedgingPolicy) {
+        Client client = new ResilientClient(new Client.Default(null, null), circuitBreakers, bulkheads,
+                hedgingPolicy, hedgingExecutor, new SimpleMeterRegistry());
+        String url = "http://localhost:" + server.getAddress().getPort();
+        return Feign.builder()
+                .client(client)
+                .target(new Target.HardCodedTarget<>(StubApi.class, CLIENT, url));
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
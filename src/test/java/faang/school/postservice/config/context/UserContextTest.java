@@ -0,0 +1,50 @@
+package faang.school.postservice.config.context;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserContextTest {
+
+    private final UserContext userContext = new UserContext();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void tearDown() {
+        userContext.clear();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void wrappedTaskSeesCallerUserOnAnotherThread() {
+        userContext.setUserId(42L);
+        CompletableFuture<OptionalLong> seen = new CompletableFuture<>();
+
+        executor.execute(userContext.wrap(() -> seen.complete(userContext.findUserId())));
+
+        assertThat(seen.join()).hasValue(42L);
+    }
+
+    @Test
+    void wrappedTaskRestoresWorkerState() {
+        executor.execute(() -> userContext.setUserId(7L));
+        userContext.setUserId(42L);
+        executor.execute(userContext.wrap(() -> { }));
+
+        CompletableFuture<OptionalLong> after = CompletableFuture.supplyAsync(userContext::findUserId, executor);
+
+        assertThat(after.join()).hasValue(7L);
+    }
+
+    @Test
+    void missingUserIsRejected() {
+        assertThatThrownBy(userContext::getUserId).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,169 @@
+package faang.school.postservice.config.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import faang.school.postservice.config.context.UserContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs against a primary and a streaming replica; {@code pg_is_in_recovery()} tells which one served the query.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReplicaRoutingDataSourceTest {
+
+    private static final String IMAGE = "bitnami/postgresql:13";
+    private static final String PASSWORD = "password";
+    private static final String IN_RECOVERY = "SELECT pg_is_in_recovery()";
+
+    private final Network network = Network.newNetwork();
+    private final GenericContainer<?> primaryContainer = new GenericContainer<>(IMAGE)
+            .withNetwork(network)
+            .withNetworkAliases("primary")
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "master")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "replicator")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", PASSWORD)
+            .withEnv("POSTGRESQL_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forListeningPort());
+    private final GenericContainer<?> replicaContainer = new GenericContainer<>(IMAGE)
+            .withNetwork(network)
+            .withEnv("POSTGRESQL_REPLICATION_MODE", "slave")
+            .withEnv("POSTGRESQL_MASTER_HOST", "primary")
+            .withEnv("POSTGRESQL_MASTER_PORT_NUMBER", "5432")
+            .withEnv("POSTGRESQL_REPLICATION_USER", "replicator")
+            .withEnv("POSTGRESQL_REPLICATION_PASSWORD", PASSWORD)
+            .withEnv("POSTGRESQL_PASSWORD", PASSWORD)
+            .withExposedPorts(5432)
+            .waitingFor(Wait.forListeningPort())
+            .dependsOn(primaryContainer);
+
+    private final UserContext userContext = new UserContext();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private HikariDataSource primary;
+
+    @BeforeAll
+    void startContainers() throws InterruptedException {
+        replicaContainer.start();
+        primary = new HikariDataSource();
+        primary.setPoolName("test");
+        primary.setJdbcUrl(jdbcUrl(primaryContainer));
+        primary.setUsername("postgres");
+        primary.setPassword(PASSWORD);
+        awaitStreaming();
+    }
+
+    @AfterAll
+    void stopContainers() {
+        primary.close();
+        replicaContainer.stop();
+        primaryContainer.stop();
+        network.close();
+    }
+
+    @AfterEach
+    void clearUser() {
+        userContext.clear();
+    }
+
+    @Test
+    void readOnlyTransactionsGoToReplica() {
+        Routing routing = routing(10_000);
+
+        assertThat(routing.inRecovery(true)).isTrue();
+        assertThat(routing.inRecovery(false)).isFalse();
+    }
+
+    @Test
+    void lagBeyondLimitFallsBackToPrimary() {
+        Routing routing = routing(-1);
+
+        assertThat(routing.inRecovery(true)).isFalse();
+        assertThat(meterRegistry.counter("datasource.routing.reads", "target", "primary-lagging").count())
+                .isPositive();
+    }
+
+    @Test
+    void pinnedReadOnlyTransactionsGoToPrimary() {
+        Routing routing = routing(10_000);
+
+        assertThat(ReplicaRoutingDataSource.onPrimary(() -> routing.inRecovery(true))).isFalse();
+        assertThat(routing.inRecovery(true)).isTrue();
+    }
+
+    @Test
+    void userReadsOwnWritesFromPrimary() {
+        Routing routing = routing(10_000);
+        userContext.setUserId(1L);
+
+        assertThat(routing.inRecovery(false)).isFalse();
+        assertThat(routing.inRecovery(true)).isFalse();
+
+        userContext.setUserId(2L);
+        assertThat(routing.inRecovery(true)).isTrue();
+    }
+
+    private Routing routing(long maxLagMs) {
+        ReplicaSet replicaSet = new ReplicaSet(primary, meterRegistry, List.of(jdbcUrl(replicaContainer)), 2, maxLagMs, 1);
+        replicaSet.checkLag();
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        ReadYourWritesTracker tracker = new ReadYourWritesTracker(redisTemplate, userContext, 60_000, 1_000);
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replicaSet, tracker, meterRegistry);
+        routing.afterPropertiesSet();
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        proxy.afterPropertiesSet();
+        return new Routing(new TransactionTemplate(new DataSourceTransactionManager(proxy)), new JdbcTemplate(proxy));
+    }
+
+    private void awaitStreaming() throws InterruptedException {
+        JdbcTemplate primaryJdbc = new JdbcTemplate(primary);
+        long deadline = System.nanoTime() + Duration.ofMinutes(1).toNanos();
+        while (System.nanoTime() < deadline) {
+            Integer streaming = primaryJdbc.queryForObject(
+                    "SELECT count(*) FROM pg_stat_replication WHERE state = 'streaming'", Integer.class);
+            if (streaming != null && streaming > 0) {
+                return;
+            }
+            Thread.sleep(200);
+        }
+        throw new IllegalStateException("Replica did not start streaming");
+    }
+
+    private static String jdbcUrl(GenericContainer<?> container) {
+        return "jdbc:postgresql://" + container.getHost() + ":" + container.getMappedPort(5432) + "/postgres";
+    }
+
+    private record Routing(TransactionTemplate transactionTemplate, JdbcTemplate jdbcTemplate) {
+        boolean inRecovery(boolean readOnly) {
+            transactionTemplate.setReadOnly(readOnly);
+            return transactionTemplate.execute(status -> jdbcTemplate.queryForObject(IN_RECOVERY, Boolean.class));
+        }
+    }
+}
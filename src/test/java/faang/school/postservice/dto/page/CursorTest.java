@@ -0,0 +1,37 @@
+package faang.school.postservice.dto.page;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTest {
+
+    @Test
+    void encodedCursorRoundTripsTimestampAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_456_000);
+
+        Cursor decoded = Cursor.decode(Cursor.of(createdAt, 42).encode());
+
+        assertThat(decoded.timestamp()).isEqualTo(createdAt);
+        assertThat(decoded.id()).isEqualTo(42);
+    }
+
+    @Test
+    void encodedCursorRoundTripsRankExactly() {
+        float rank = 0.0607927f;
+
+        Cursor decoded = Cursor.decode(Cursor.of(rank, 7).encode());
+
+        assertThat(Float.floatToIntBits(decoded.rank())).isEqualTo(Float.floatToIntBits(rank));
+        assertThat(decoded.id()).isEqualTo(7);
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        assertThatThrownBy(() -> Cursor.decode("not-a-cursor"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package faang.school.postservice.service;
+
+import faang.school.postservice.client.ProjectServiceClient;
+import faang.school.postservice.client.UserServiceClient;
+import faang.school.postservice.dto.comment.CommentDto;
+import faang.school.postservice.dto.like.LikeDto;
+import faang.school.postservice.dto.page.CursorPage;
+import faang.school.postservice.dto.post.PostDto;
+import faang.school.postservice.model.Comment;
+import faang.school.postservice.model.Like;
+import faang.school.postservice.model.Post;
+import faang.school.postservice.model.ad.Ad;
+import faang.school.postservice.repository.CommentRepository;
+import faang.school.postservice.repository.LikeRepository;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.repository.ad.AdRepository;
+import faang.school.postservice.service.comment.CommentService;
+import faang.school.postservice.service.like.LikeService;
+import faang.school.postservice.service.post.PostService;
+import faang.school.postservice.util.BaseContextTest;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCountTest extends BaseContextTest {
+
+    private static final long AUTHOR_ID = 1L;
+    private static final long PROJECT_ID = 1L;
+    private static final int POSTS = 60;
+    private static final int PAGE_SIZE = 50;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @MockBean
+    private ProjectServiceClient projectServiceClient;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private AdRepository adRepository;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Post busyPost;
+
+    @BeforeAll
+    void seed() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < POSTS; i++) {
+            Post post = postRepository.save(Post.builder()
+                    .content("post " + i)
+                    .authorId(AUTHOR_ID)
+                    .projectId(PROJECT_ID)
+                    .published(true)
+                    .publishedAt(now)
+                    .build());
+            adRepository.save(Ad.builder()
+                    .post(post)
+                    .buyerId(AUTHOR_ID)
+                    .appearancesLeft(100)
+                    .startDate(now)
+                    .endDate(now.plusDays(1))
+                    .build());
+            for (long userId = 1; userId <= 3; userId++) {
+                Comment comment = commentRepository.save(Comment.builder()
+                        .content("comment " + userId)
+                        .authorId(userId)
+                        .post(post)
+                        .build());
+                likeRepository.save(Like.builder().userId(userId).post(post).build());
+                likeRepository.save(Like.builder().userId(userId).comment(comment).build());
+            }
+            busyPost = post;
+        }
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @BeforeEach
+    void resetStatistics() {
+        statistics.clear();
+    }
+
+    @Test
+    void postsByAuthorPageIsOneStatement() {
+        CursorPage<PostDto> page = postService.getPostsByAuthor(AUTHOR_ID, OptionalLong.empty(), null, PAGE_SIZE);
+
+        assertThat(page.items()).hasSize(PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void postsByProjectNextPageIsOneStatement() {
+        CursorPage<PostDto> first = postService.getPostsByProject(PROJECT_ID, null, PAGE_SIZE);
+        statistics.clear();
+
+        CursorPage<PostDto> second = postService.getPostsByProject(PROJECT_ID, first.nextCursor(), PAGE_SIZE);
+
+        assertThat(second.items()).hasSize(POSTS - PAGE_SIZE);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void commentPageIsOneStatement() {
+        CursorPage<CommentDto> page = commentService.getComments(busyPost.getId(), null, PAGE_SIZE);
+
+        assertThat(page.items()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void likePageIsOneStatement() {
+        CursorPage<LikeDto> page = likeService.getPostLikes(busyPost.getId(), null, PAGE_SIZE);
+
+        assertThat(page.items()).hasSize(3);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cachedPostViewSkipsDatabase() {
+        postService.getPost(busyPost.getId(), OptionalLong.empty());
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1);
+        statistics.clear();
+
+        postService.getPost(busyPost.getId(), OptionalLong.empty());
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+}
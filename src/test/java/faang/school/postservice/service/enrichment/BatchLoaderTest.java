@@ -0,0 +1,193 @@
+package faang.school.postservice.service.enrichment;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import faang.school.postservice.dto.user.UserDto;
+import feign.Feign;
+import feign.Headers;
+import feign.RequestLine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Batches are flushed by size rather than by the window, which is set far beyond the test duration, so the
+ * number of remote calls does not depend on scheduling.
+ */
+class BatchLoaderTest {
+
+    private static final Duration NEVER = Duration.ofMinutes(10);
+    private static final long UNKNOWN_ID = 1_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<List<Long>> remoteCalls = new CopyOnWriteArrayList<>();
+    private volatile boolean failRemoteCalls;
+    private HttpServer server;
+    private ScheduledExecutorService scheduler;
+
+    interface StubUserApi {
+        @RequestLine("POST /users")
+        @Headers("Content-Type: application/json")
+        List<UserDto> getUsersByIds(List<Long> ids);
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/users", this::getUsersByIds);
+        server.start();
+        scheduler = Executors.newScheduledThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        server.stop(0);
+    }
+
+    @Test
+    void pageOfAuthorsIsLoadedWithOneRemoteCall() {
+        BatchLoader<UserDto> loader = loader(50);
+        List<Long> authorIds = new ArrayList<>();
+        LongStream.range(0, 50).forEach(id -> {
+            authorIds.add(id);
+            authorIds.add(id);
+        });
+
+        Map<Long, UserDto> users = loader.loadAll(authorIds);
+
+        assertThat(users).hasSize(50);
+        assertThat(remoteCalls).hasSize(1);
+        assertThat(remoteCalls.get(0)).hasSize(50);
+    }
+
+    @Test
+    void concurrentLookupsAreCoalesced() {
+        BatchLoader<UserDto> loader = loader(10);
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(30);
+        List<CompletableFuture<UserDto>> futures = LongStream.range(0, 30)
+                .mapToObj(id -> CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return loader.load(id % 10).join();
+                }, callers))
+                .toList();
+
+        start.countDown();
+        futures.forEach(CompletableFuture::join);
+        callers.shutdown();
+
+        assertThat(remoteCalls).hasSize(1);
+        assertThat(remoteCalls.get(0)).hasSize(10);
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromCache() {
+        BatchLoader<UserDto> loader = loader(3);
+
+        loader.loadAll(List.of(1L, 2L, 3L));
+        loader.loadAll(List.of(1L, 2L, 3L));
+
+        assertThat(remoteCalls).hasSize(1);
+    }
+
+    @Test
+    void unknownIdsAreNotLookedUpAgain() {
+        BatchLoader<UserDto> loader = loader(2);
+
+        Map<Long, UserDto> first = loader.loadAll(List.of(1L, UNKNOWN_ID));
+        Map<Long, UserDto> second = loader.loadAll(List.of(1L, UNKNOWN_ID));
+
+        assertThat(first).containsOnlyKeys(1L);
+        assertThat(second).containsOnlyKeys(1L);
+        assertThat(remoteCalls).hasSize(1);
+    }
+
+    @Test
+    void failedRemoteCallLeavesOnlyUncachedIdsOut() {
+        BatchLoader<UserDto> loader = loader(2);
+        loader.loadAll(List.of(1L, 2L));
+        failRemoteCalls = true;
+
+        Map<Long, UserDto> users = loader.loadAll(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(users).containsOnlyKeys(1L, 2L);
+    }
+
+    private BatchLoader<UserDto> loader(int maxBatchSize) {
+        StubUserApi api = Feign.builder()
+                .encoder((body, type, template) -> template.body(write(body), StandardCharsets.UTF_8))
+                .decoder((response, type) -> objectMapper.readValue(response.body().asInputStream(),
+                        objectMapper.constructType(type)))
+                .target(StubUserApi.class, "http://localhost:" + server.getAddress().getPort());
+        return new BatchLoader<>(
+                api::getUsersByIds,
+                UserDto::getId,
+                Caffeine.newBuilder().maximumSize(1000).<Long, UserDto>build(),
+                null,
+                scheduler,
+                NEVER,
+                maxBatchSize,
+                Duration.ofMinutes(1));
+    }
+
+    private void getUsersByIds(HttpExchange exchange) throws IOException {
+        List<Long> ids = Arrays.asList(objectMapper.readValue(exchange.getRequestBody(), Long[].class));
+        remoteCalls.add(List.copyOf(ids));
+        if (failRemoteCalls) {
+            respond(exchange, 503, "user service is down".getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        List<UserDto> users = ids.stream()
+                .filter(id -> id != UNKNOWN_ID)
+                .map(id -> new UserDto(id, "user" + id, "user" + id + "@mail.com"))
+                .toList();
+        respond(exchange, 200, objectMapper.writeValueAsBytes(users));
+    }
+
+    private byte[] write(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package faang.school.postservice.service.like;
+
+import faang.school.postservice.client.ProjectServiceClient;
+import faang.school.postservice.client.UserServiceClient;
+import faang.school.postservice.exception.NotFoundException;
+import faang.school.postservice.model.Comment;
+import faang.school.postservice.model.Post;
+import faang.school.postservice.repository.CommentRepository;
+import faang.school.postservice.repository.PostRepository;
+import faang.school.postservice.util.BaseContextTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LikeServiceTest extends BaseContextTest {
+
+    private static final long AUTHOR_ID = 1L;
+    private static final long USER_ID = 2L;
+
+    @MockBean
+    private UserServiceClient userServiceClient;
+
+    @MockBean
+    private ProjectServiceClient projectServiceClient;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void likingDraftIsRejectedWithoutSideEffects() {
+        Post draft = postRepository.save(Post.builder()
+                .content("draft")
+                .authorId(AUTHOR_ID)
+                .build());
+
+        assertThatThrownBy(() -> likeService.likePost(draft.getId(), USER_ID)).isInstanceOf(NotFoundException.class);
+
+        assertThat(likes("post_id", draft.getId())).isZero();
+        assertThat(events("POST_LIKED", draft.getId())).isZero();
+    }
+
+    @Test
+    void likingCommentOfDraftIsRejectedWithoutSideEffects() {
+        Post draft = postRepository.save(Post.builder()
+                .content("draft")
+                .authorId(AUTHOR_ID)
+                .build());
+        Comment comment = commentRepository.save(Comment.builder()
+                .content("comment")
+                .authorId(AUTHOR_ID)
+                .post(draft)
+                .build());
+
+        assertThatThrownBy(() -> likeService.likeComment(comment.getId(), USER_ID))
+                .isInstanceOf(NotFoundException.class);
+
+        assertThat(likes("comment_id", comment.getId())).isZero();
+        assertThat(events("COMMENT_LIKED", comment.getId())).isZero();
+    }
+
+    private int likes(String column, long id) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM likes WHERE " + column + " = ?", Integer.class, id);
+    }
+
+    private int events(String type, long aggregateId) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM outbox_event WHERE event_type = ? AND aggregate_id = ?",
+                Integer.class, type, aggregateId);
+    }
+}
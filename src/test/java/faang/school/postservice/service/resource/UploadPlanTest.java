@@ -0,0 +1,34 @@
+package faang.school.postservice.service.resource;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UploadPlanTest {
+
+    @Test
+    void lastPartCarriesTheRemainder() {
+        UploadPlan plan = new UploadPlan(25, 10);
+
+        assertThat(plan.partCount()).isEqualTo(3);
+        assertThat(plan.partLength(1)).isEqualTo(10);
+        assertThat(plan.partLength(3)).isEqualTo(5);
+    }
+
+    @Test
+    void exactMultipleHasNoShortPart() {
+        UploadPlan plan = new UploadPlan(30, 10);
+
+        assertThat(plan.partCount()).isEqualTo(3);
+        assertThat(plan.partLength(3)).isEqualTo(10);
+    }
+
+    @Test
+    void partOutsidePlanIsRejected() {
+        UploadPlan plan = new UploadPlan(25, 10);
+
+        assertThatThrownBy(() -> plan.partLength(4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> plan.partLength(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}